@@ -0,0 +1,316 @@
+package io.azam.azamcodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare JMH JSON results (`-rf json`) against a baseline, and exit with status 1 on regressions.
+ *
+ * A benchmark regresses if it allocates more than the baseline by more than 10% plus 16 bytes per
+ * operation, as measured by `-prof gc`. Allocation per operation does not depend on the machine, so
+ * the committed baseline holds on any runner. A benchmark or allocation metric of the baseline
+ * missing from the results fails the comparison too.
+ *
+ * Given a time tolerance, scores are compared as well, and a benchmark regresses if its score is
+ * worse than the baseline by more than the tolerance, e.g. 0.25. Scores depend on the machine, so
+ * only compare them against a baseline recorded on the machine running the comparison.
+ *
+ * Results are matched by benchmark and parameters, not by thread count, as benchmarks on
+ * {@code Threads.MAX} threads run on as many threads as the machine has cores. Each benchmark of
+ * {@link AzamThreadsBench} has a fixed thread count, so its name is enough.
+ *
+ * <pre>
+ * java -jar target/benchmark.jar "AzamSuiteBench|AzamThreadsBench" \
+ *     -wi 2 -i 3 -w 1 -r 1 -prof gc -rf json
+ * java -cp target/benchmark.jar io.azam.azamcodec.AzamBenchBaseline \
+ *     src/bench/jmh-baseline.json jmh-result.json [time tolerance]
+ * </pre>
+ *
+ * To regenerate the baseline from such a run, keeping only the compared metrics:
+ *
+ * <pre>
+ * java -cp target/benchmark.jar io.azam.azamcodec.AzamBenchBaseline \
+ *     -record jmh-result.json src/bench/jmh-baseline.json
+ * </pre>
+ */
+public class AzamBenchBaseline {
+  static final double ALLOC_TOLERANCE = 0.1;
+  static final double ALLOC_SLACK = 16.0;
+  static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 3 && "-record".equals(args[0])) {
+      record(args[1], args[2]);
+      return;
+    }
+    if (args.length < 2 || args.length > 3) {
+      System.err.println("Usage: AzamBenchBaseline <baseline.json> <result.json> [time tolerance]");
+      System.err.println("       AzamBenchBaseline -record <result.json> <baseline.json>");
+      System.exit(2);
+    }
+    boolean compareTime = args.length > 2;
+    double tolerance = compareTime ? Double.parseDouble(args[2]) : 0.0;
+    Map<String, Map<?, ?>> baseline = index(read(args[0]));
+    Map<String, Map<?, ?>> result = index(read(args[1]));
+    int regressions = 0;
+    int missing = 0;
+    for (Map.Entry<String, Map<?, ?>> entry : baseline.entrySet()) {
+      Map<?, ?> actual = result.get(entry.getKey());
+      if (actual == null) {
+        System.out.println("MISSING    " + entry.getKey());
+        missing++;
+        continue;
+      }
+      Map<?, ?> expected = entry.getValue();
+      boolean regressed = false;
+      StringBuilder line = new StringBuilder(entry.getKey());
+      if (compareTime) {
+        boolean higherIsBetter = "thrpt".equals(expected.get("mode"));
+        double before = score((Map<?, ?>) expected.get("primaryMetric"));
+        double after = score((Map<?, ?>) actual.get("primaryMetric"));
+        double change = higherIsBetter ? before / after - 1 : after / before - 1;
+        regressed = change > tolerance;
+        line.append(String.format("  %+7.1f%%  %12.3f -> %12.3f %s", change * 100, before, after,
+            ((Map<?, ?>) expected.get("primaryMetric")).get("scoreUnit")));
+      }
+      Map<?, ?> expectedAlloc = allocMetric(expected);
+      if (expectedAlloc != null) {
+        Map<?, ?> actualAlloc = allocMetric(actual);
+        if (actualAlloc == null) {
+          System.out.println("MISSING    " + line + ", " + ALLOC_METRIC);
+          missing++;
+          continue;
+        }
+        double allocBefore = score(expectedAlloc);
+        double allocAfter = score(actualAlloc);
+        line.append(String.format("  %.0f -> %.0f B/op", allocBefore, allocAfter));
+        if (allocAfter > allocBefore * (1 + ALLOC_TOLERANCE) + ALLOC_SLACK)
+          regressed = true;
+      }
+      if (regressed)
+        regressions++;
+      System.out.println((regressed ? "REGRESSION " : "OK         ") + line);
+    }
+    System.out.println(regressions + " regression(s), " + missing + " missing in " + baseline.size()
+        + " benchmark(s)");
+    System.exit(regressions == 0 && missing == 0 ? 0 : 1);
+  }
+
+  /**
+   * Write the benchmarks of JMH results at `resultPath` as a baseline to `baselinePath`, one per
+   * line, with only the metrics that are compared.
+   */
+  static void record(String resultPath, String baselinePath) throws IOException {
+    StringBuilder out = new StringBuilder("[\n");
+    for (Map<?, ?> result : index(read(resultPath)).values()) {
+      if (out.length() > 2)
+        out.append(",\n");
+      out.append("  {\"benchmark\": ").append(quote(result.get("benchmark")));
+      out.append(", \"mode\": ").append(quote(result.get("mode")));
+      Map<?, ?> params = (Map<?, ?>) result.get("params");
+      if (params != null) {
+        out.append(", \"params\": {");
+        String separator = "";
+        for (Map.Entry<?, ?> param : new TreeMap<Object, Object>(params).entrySet()) {
+          out.append(separator).append(quote(param.getKey())).append(": ")
+              .append(quote(param.getValue()));
+          separator = ", ";
+        }
+        out.append('}');
+      }
+      out.append(", \"primaryMetric\": ").append(metric((Map<?, ?>) result.get("primaryMetric")));
+      Map<?, ?> alloc = allocMetric(result);
+      if (alloc != null)
+        out.append(", \"secondaryMetrics\": {\"").append(ALLOC_METRIC).append("\": ")
+            .append(metric(alloc)).append('}');
+      out.append('}');
+    }
+    out.append("\n]\n");
+    Files.write(Paths.get(baselinePath), out.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String metric(Map<?, ?> metric) {
+    double score = score(metric);
+    // JMH writes non finite scores as strings, finite ones as numbers
+    String value = Double.isNaN(score) || Double.isInfinite(score) ? quote(String.valueOf(score))
+        : String.valueOf(score);
+    return "{\"score\": " + value + ", \"scoreUnit\": " + quote(metric.get("scoreUnit")) + "}";
+  }
+
+  static String quote(Object value) {
+    return "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  /**
+   * Index results by benchmark and parameters.
+   */
+  static Map<String, Map<?, ?>> index(Object results) {
+    Map<String, Map<?, ?>> index = new TreeMap<String, Map<?, ?>>();
+    for (Object o : (List<?>) results) {
+      Map<?, ?> result = (Map<?, ?>) o;
+      StringBuilder key = new StringBuilder((String) result.get("benchmark"));
+      Map<?, ?> params = (Map<?, ?>) result.get("params");
+      if (params != null)
+        key.append(new TreeMap<Object, Object>(params));
+      index.put(key.toString(), result);
+    }
+    return index;
+  }
+
+  static Map<?, ?> allocMetric(Map<?, ?> result) {
+    Map<?, ?> metrics = (Map<?, ?>) result.get("secondaryMetrics");
+    if (metrics == null)
+      return null;
+    for (Map.Entry<?, ?> entry : metrics.entrySet()) {
+      // Named with or without a leading middle dot, depending on the JMH version
+      if (((String) entry.getKey()).endsWith(ALLOC_METRIC))
+        return (Map<?, ?>) entry.getValue();
+    }
+    return null;
+  }
+
+  static double score(Map<?, ?> metric) {
+    Object score = metric.get("score");
+    // JMH writes non finite scores as strings, finite ones as numbers
+    if (score instanceof String)
+      return Double.parseDouble((String) score);
+    return ((Number) score).doubleValue();
+  }
+
+  static Object read(String path) throws IOException {
+    String json = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    Parser parser = new Parser(json);
+    Object value = parser.value();
+    parser.skipSpaces();
+    if (parser.pos != json.length())
+      throw parser.error();
+    return value;
+  }
+
+  /**
+   * Just enough JSON to read JMH results, as the benchmark JAR has no JSON library.
+   */
+  static final class Parser {
+    final String json;
+    int pos = 0;
+
+    Parser(String json) {
+      this.json = json;
+    }
+
+    Object value() throws IOException {
+      skipSpaces();
+      if (this.pos == this.json.length())
+        throw error();
+      char c = this.json.charAt(this.pos);
+      if (c == '{') {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        this.pos++;
+        if (!consume('}')) {
+          do {
+            skipSpaces();
+            String key = string();
+            expect(':');
+            map.put(key, value());
+          } while (consume(','));
+          expect('}');
+        }
+        return map;
+      }
+      if (c == '[') {
+        List<Object> list = new ArrayList<Object>();
+        this.pos++;
+        if (!consume(']')) {
+          do {
+            list.add(value());
+          } while (consume(','));
+          expect(']');
+        }
+        return list;
+      }
+      if (c == '"')
+        return string();
+      if (this.json.startsWith("true", this.pos)) {
+        this.pos += 4;
+        return Boolean.TRUE;
+      }
+      if (this.json.startsWith("false", this.pos)) {
+        this.pos += 5;
+        return Boolean.FALSE;
+      }
+      if (this.json.startsWith("null", this.pos)) {
+        this.pos += 4;
+        return null;
+      }
+      int start = this.pos;
+      while (this.pos < this.json.length()
+          && "+-.eE0123456789".indexOf(this.json.charAt(this.pos)) >= 0)
+        this.pos++;
+      try {
+        return Double.valueOf(this.json.substring(start, this.pos));
+      } catch (NumberFormatException e) {
+        throw error();
+      }
+    }
+
+    String string() throws IOException {
+      expect('"');
+      StringBuilder out = new StringBuilder();
+      for (;;) {
+        if (this.pos == this.json.length())
+          throw error();
+        char c = this.json.charAt(this.pos++);
+        if (c == '"')
+          return out.toString();
+        if (c == '\\') {
+          c = this.json.charAt(this.pos++);
+          if (c == 'u') {
+            c = (char) Integer.parseInt(this.json.substring(this.pos, this.pos + 4), 16);
+            this.pos += 4;
+          } else if (c == 'n') {
+            c = '\n';
+          } else if (c == 't') {
+            c = '\t';
+          } else if (c == 'r') {
+            c = '\r';
+          } else if (c == 'b') {
+            c = '\b';
+          } else if (c == 'f') {
+            c = '\f';
+          }
+        }
+        out.append(c);
+      }
+    }
+
+    boolean consume(char c) {
+      skipSpaces();
+      if (this.pos < this.json.length() && this.json.charAt(this.pos) == c) {
+        this.pos++;
+        return true;
+      }
+      return false;
+    }
+
+    void expect(char c) throws IOException {
+      if (!consume(c))
+        throw error();
+    }
+
+    void skipSpaces() {
+      while (this.pos < this.json.length() && Character.isWhitespace(this.json.charAt(this.pos)))
+        this.pos++;
+    }
+
+    IOException error() {
+      return new IOException("Invalid JSON at offset " + this.pos);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package io.azam.azamcodec;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.ParseException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Throughput of bulk encode/decode of a batch of IDs by pool parallelism.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class AzamBulkBench {
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(AzamBulkBench.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Param({"1", "2", "4", "8"})
+  int parallelism;
+
+  @Param({"100000"})
+  int size;
+
+  ForkJoinPool pool;
+  long[][] tuples;
+  String[] ids;
+
+  @Setup
+  public void setup() {
+    this.pool = new ForkJoinPool(this.parallelism);
+    Random random = new Random(0);
+    this.tuples = new long[this.size][];
+    this.ids = new String[this.size];
+    for (int i = 0; i < this.size; i++) {
+      this.tuples[i] = new long[] {random.nextInt(), random.nextInt(), random.nextLong()};
+      this.ids[i] = AzamCodec.azamEncodeLongs(this.tuples[i]);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdown();
+  }
+
+  @Benchmark
+  public void azamEncodeAll(Blackhole bh) {
+    bh.consume(AzamBulkCodec.azamEncodeAll(this.tuples, this.pool,
+        AzamBulkCodec.DEFAULT_THRESHOLD));
+  }
+
+  @Benchmark
+  public void azamDecodeAll(Blackhole bh) throws ParseException {
+    bh.consume(AzamBulkCodec.azamDecodeAll(this.ids, DecodeMode.LENIENT, this.pool,
+        AzamBulkCodec.DEFAULT_THRESHOLD));
+  }
+
+  @Benchmark
+  public void azamEncodeLongsLoop(Blackhole bh) {
+    for (long[] tuple : this.tuples)
+      bh.consume(AzamCodec.azamEncodeLongs(tuple));
+  }
+}
@@ -7,7 +7,9 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static io.azam.azamcodec.AzamCodec.*;
@@ -24,6 +26,26 @@ public class AzamCodecBench {
     new Runner(opt).run();
   }
 
+  byte[] bytes256;
+  byte[] bytes4096;
+  byte[] dst;
+  /// Tenant, object and record IDs, 36 characters
+  String id = azamEncodeLongs(0xdeadbeefL, 0x1234567L, 0x0123456789abcdefL);
+  byte[] idBytes = this.id.getBytes(StandardCharsets.US_ASCII);
+  long[] longs = new long[3];
+  AzamPrefix tenant = AzamPrefix.ofInts(0xffffffff);
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    this.bytes256 = new byte[256];
+    this.bytes4096 = new byte[4096];
+    random.nextBytes(this.bytes256);
+    random.nextBytes(this.bytes4096);
+    this.bytes256[0] = this.bytes4096[0] = 1;
+    this.dst = new byte[4096 * 2];
+  }
+
   @Benchmark
   public void azamDecodeInts1(Blackhole bh) throws ParseException {
     bh.consume(azamDecodeInts("zzzzzzzf"));
@@ -49,6 +71,31 @@ public class AzamCodecBench {
     bh.consume(azamDecodeInts("zzzzzzzfzzzzzzzfzzzzzzzfzzzzzzzfzzzzzzzf"));
   }
 
+  @Benchmark
+  public void azamDecodeIntsStrict1(Blackhole bh) throws ParseException {
+    bh.consume(azamDecodeInts("zzzzzzzf", DecodeMode.STRICT));
+  }
+
+  @Benchmark
+  public void azamDecodeIntsStrict2(Blackhole bh) throws ParseException {
+    bh.consume(azamDecodeInts("zzzzzzzfzzzzzzzf", DecodeMode.STRICT));
+  }
+
+  @Benchmark
+  public void azamDecodeIntsStrict3(Blackhole bh) throws ParseException {
+    bh.consume(azamDecodeInts("zzzzzzzfzzzzzzzfzzzzzzzf", DecodeMode.STRICT));
+  }
+
+  @Benchmark
+  public void azamDecodeIntsStrict4(Blackhole bh) throws ParseException {
+    bh.consume(azamDecodeInts("zzzzzzzfzzzzzzzfzzzzzzzfzzzzzzzf", DecodeMode.STRICT));
+  }
+
+  @Benchmark
+  public void azamDecodeIntsStrict5(Blackhole bh) throws ParseException {
+    bh.consume(azamDecodeInts("zzzzzzzfzzzzzzzfzzzzzzzfzzzzzzzfzzzzzzzf", DecodeMode.STRICT));
+  }
+
   @Benchmark
   public void azamEncodeInts1(Blackhole bh) throws ParseException {
     bh.consume(azamEncodeInts(0xffffffff));
@@ -73,4 +120,35 @@ public class AzamCodecBench {
   public void azamEncodeInts5(Blackhole bh) throws ParseException {
     bh.consume(azamEncodeInts(0xffffffff, 0xffffffff, 0xffffffff, 0xffffffff, 0xffffffff));
   }
+
+  @Benchmark
+  public int azamEncodeBytes256() {
+    return azamEncodeBytes(this.bytes256, 0, this.bytes256.length, this.dst, 0);
+  }
+
+  @Benchmark
+  public int azamEncodeBytes4096() {
+    return azamEncodeBytes(this.bytes4096, 0, this.bytes4096.length, this.dst, 0);
+  }
+
+  @Benchmark
+  public int azamDecodeLongsId() throws ParseException {
+    return azamDecodeLongs(this.id, this.longs);
+  }
+
+  @Benchmark
+  public int azamDecodeLongsIdBytes() throws ParseException {
+    return azamDecodeLongs(this.idBytes, 0, this.idBytes.length, this.longs);
+  }
+
+  @Benchmark
+  public void azamPrefixEncodeInts3(Blackhole bh) {
+    bh.consume(this.tenant.encodeInts(0xffffffff, 0xffffffff));
+  }
+
+  @Benchmark
+  public void azamBuilderEncodeInts3(Blackhole bh) {
+    bh.consume(AzamBuilder.local().appendInt(0xffffffff).appendInt(0xffffffff)
+        .appendInt(0xffffffff).toString());
+  }
 }
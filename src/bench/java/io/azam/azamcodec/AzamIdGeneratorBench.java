@@ -0,0 +1,69 @@
+package io.azam.azamcodec;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of ID generation by thread count, against a synchronized generator as typically hand
+ * rolled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms256M", "-Xmx256M"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class AzamIdGeneratorBench {
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(AzamIdGeneratorBench.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  static final class SynchronizedGenerator {
+    private long millis;
+    private long sequence;
+
+    synchronized long[] next() {
+      long now = System.currentTimeMillis();
+      if (now > this.millis) {
+        this.millis = now;
+        this.sequence = 0;
+      } else {
+        this.sequence++;
+      }
+      return new long[] {this.millis, 1L, this.sequence};
+    }
+  }
+
+  AzamIdGenerator generator = new AzamIdGenerator(1);
+  SynchronizedGenerator synchronizedGenerator = new SynchronizedGenerator();
+
+  @Benchmark
+  @Threads(1)
+  public String next1() {
+    return this.generator.next();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String nextMax() {
+    return this.generator.next();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String synchronized1() {
+    return AzamCodec.azamEncodeLongs(this.synchronizedGenerator.next());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String synchronizedMax() {
+    return AzamCodec.azamEncodeLongs(this.synchronizedGenerator.next());
+  }
+}
@@ -0,0 +1,179 @@
+package io.azam.azamcodec;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.azam.azamcodec.AzamCodec.*;
+
+/**
+ * Encode/decode of IDs by value distribution and section count, covering all section types and
+ * APIs. Run with `-prof gc` for allocation per operation, and compare against the committed
+ * baseline with {@link AzamBenchBaseline}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms256M", "-Xmx256M"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class AzamSuiteBench {
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(AzamSuiteBench.class.getSimpleName())
+        .addProfiler("gc").build();
+    new Runner(opt).run();
+  }
+
+  /**
+   * Distribution of section values: all bits set, uniformly random, or small values of 1 to 5
+   * nybbles, which have odd nybble counts.
+   */
+  @Param({"max", "random", "small"})
+  String distribution;
+
+  @Param({"1", "3", "5"})
+  int sections;
+
+  int[] ints;
+  long[] longs;
+  byte[][] bytes;
+  BigInteger[] bigIntegers;
+  String encodedInts;
+  String encodedLongs;
+  byte[] encodedLongsBytes;
+  /// Encoded longs with the last character replaced by an invalid one
+  String invalid;
+  long[] longsDst;
+  byte[] bytesDst = new byte[16];
+  ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  @Setup
+  public void setup() {
+    Random random = new Random(25);
+    this.ints = new int[this.sections];
+    this.longs = new long[this.sections];
+    this.bytes = new byte[this.sections][];
+    this.bigIntegers = new BigInteger[this.sections];
+    for (int i = 0; i < this.sections; i++) {
+      long value;
+      if ("max".equals(this.distribution))
+        value = -1L;
+      else if ("random".equals(this.distribution))
+        value = random.nextLong();
+      else
+        value = random.nextInt(1 << 4 * (i % 3 * 2 + 1));
+      this.ints[i] = (int) value;
+      this.longs[i] = value;
+      this.bytes[i] = new byte[Long.BYTES];
+      for (int j = 0; j < Long.BYTES; j++)
+        this.bytes[i][j] = (byte) (value >>> (Long.SIZE - Byte.SIZE * (j + 1)));
+      this.bigIntegers[i] = new BigInteger(1, this.bytes[i]);
+    }
+    this.encodedInts = azamEncodeInts(this.ints);
+    this.encodedLongs = azamEncodeLongs(this.longs);
+    this.encodedLongsBytes = this.encodedLongs.getBytes(StandardCharsets.US_ASCII);
+    this.invalid = this.encodedLongs.substring(0, this.encodedLongs.length() - 1) + "_";
+    this.longsDst = new long[this.sections];
+  }
+
+  @Benchmark
+  public String encodeInts() {
+    return azamEncodeInts(this.ints);
+  }
+
+  @Benchmark
+  public String encodeLongs() {
+    return azamEncodeLongs(this.longs);
+  }
+
+  @Benchmark
+  public String encodeBytes() {
+    return azamEncodeBytes(this.bytes);
+  }
+
+  @Benchmark
+  public String encodeBigIntegers() {
+    return azamEncodeNumbers((Number[]) this.bigIntegers);
+  }
+
+  @Benchmark
+  public int[] decodeInts() throws ParseException {
+    return azamDecodeInts(this.encodedInts);
+  }
+
+  @Benchmark
+  public long[] decodeLongs() throws ParseException {
+    return azamDecodeLongs(this.encodedLongs);
+  }
+
+  @Benchmark
+  public int decodeLongsTo() throws ParseException {
+    return azamDecodeLongs(this.encodedLongs, this.longsDst);
+  }
+
+  @Benchmark
+  public byte[][] decodeBytes() throws ParseException {
+    return azamDecodeBytes(this.encodedLongs);
+  }
+
+  @Benchmark
+  public long decodeInvalid() {
+    return azamTryDecodeLongs(this.invalid, this.longsDst);
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return azamIsValid(this.encodedLongs);
+  }
+
+  /// Allocates only the result, see the baseline with `-prof gc`
+  @Benchmark
+  public String successor() throws ParseException {
+    return azamSuccessor(this.encodedLongs);
+  }
+
+  @Benchmark
+  public String predecessor() throws ParseException {
+    return azamPredecessor(this.encodedLongs);
+  }
+
+  @Benchmark
+  public int encodeStream() throws IOException {
+    this.output.reset();
+    AzamEncoderOutputStream encoder = new AzamEncoderOutputStream(this.output, 128);
+    for (long value : this.longs)
+      encoder.writeLong(value);
+    encoder.flush();
+    return this.output.size();
+  }
+
+  @Benchmark
+  public void decodeStream(Blackhole bh) throws IOException, ParseException {
+    AzamDecoderInputStream decoder =
+        new AzamDecoderInputStream(new ByteArrayInputStream(this.encodedLongsBytes),
+            DecodeMode.LENIENT, 128);
+    while (decoder.nextSection())
+      bh.consume(decoder.read(this.bytesDst));
+  }
+
+  @Benchmark
+  public long sectionReader() throws IOException, ParseException {
+    AzamSectionReader reader = new AzamSectionReader(this.encodedLongsBytes);
+    long sum = 0L;
+    while (reader.next() == AzamSectionReader.Event.SECTION)
+      sum += reader.longValue();
+    return sum;
+  }
+}
@@ -0,0 +1,79 @@
+package io.azam.azamcodec;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.ParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.azam.azamcodec.AzamCodec.*;
+
+/**
+ * Throughput of encode/decode of IDs by thread count, to catch contention on shared state such as
+ * lookup tables and thread local buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms256M", "-Xmx256M"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class AzamThreadsBench {
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(AzamThreadsBench.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  long[] longs;
+  String encoded;
+  long[] dst = new long[3];
+
+  @Setup
+  public void setup() {
+    Random random = new Random(25);
+    this.longs = new long[] {random.nextInt() & 0xffffffffL, random.nextInt(), random.nextLong()};
+    this.encoded = azamEncodeLongs(this.longs);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String encodeLongs1() {
+    return azamEncodeLongs(this.longs);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String encodeLongsMax() {
+    return azamEncodeLongs(this.longs);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int decodeLongs1() throws ParseException {
+    return azamDecodeLongs(this.encoded, this.dst);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public int decodeLongsMax() throws ParseException {
+    return azamDecodeLongs(this.encoded, this.dst);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String builder1() {
+    return AzamBuilder.local().appendLong(this.longs[0]).appendLong(this.longs[1])
+        .appendLong(this.longs[2]).toString();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String builderMax() {
+    return AzamBuilder.local().appendLong(this.longs[0]).appendLong(this.longs[1])
+        .appendLong(this.longs[2]).toString();
+  }
+}
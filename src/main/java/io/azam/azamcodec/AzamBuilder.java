@@ -0,0 +1,196 @@
+package io.azam.azamcodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Mutable builder of a single Azam Codec encoded ID, appending one section at a time to a growable
+ * internal buffer that is reused after {@link #reset()}.
+ *
+ * This class is not thread safe. {@link #local()} hands out one builder per thread, for tight loops
+ * that would otherwise allocate a buffer per ID.
+ *
+ * <pre>
+ * String id = AzamBuilder.local().appendInt(tenantId).appendLong(recordId).toString();
+ * </pre>
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public final class AzamBuilder {
+  final static int DEFAULT_CAPACITY = 64;
+  /// Larger buffers are not kept by thread local builders
+  final static int MAX_RETAINED_CAPACITY = 4096;
+
+  private static final ThreadLocal<AzamBuilder> LOCAL = new ThreadLocal<AzamBuilder>() {
+    @Override
+    protected AzamBuilder initialValue() {
+      return new AzamBuilder();
+    }
+  };
+
+  byte[] buf;
+  private int count = 0;
+
+  /**
+   * Create a builder with the default capacity.
+   */
+  public AzamBuilder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a builder with `capacity` bytes of initial capacity.
+   *
+   * @param capacity Initial capacity
+   */
+  public AzamBuilder(int capacity) {
+    if (capacity < 0)
+      throw new IllegalArgumentException("Capacity is negative");
+    this.buf = new byte[capacity];
+  }
+
+  /**
+   * Builder of the current thread, reset. The builder must not be shared with other threads, nor be
+   * used after another call of this method on the same thread returns it again.
+   *
+   * @return Empty builder
+   */
+  public static AzamBuilder local() {
+    AzamBuilder builder = LOCAL.get();
+    if (builder.buf.length > MAX_RETAINED_CAPACITY)
+      builder.buf = new byte[DEFAULT_CAPACITY];
+    return builder.reset();
+  }
+
+  /**
+   * Append `value` as a section, based on the number's byte representation in Big-Endian.
+   *
+   * @param value Input number
+   * @return This builder
+   */
+  public AzamBuilder appendInt(int value) {
+    ensureCapacity(AzamCodec.MAX_INT_ENCODED_LENGTH);
+    this.count = AzamCodec.encodeLongPadded(value & 0xffffffffL, this.buf, this.count);
+    return this;
+  }
+
+  /**
+   * Append `value` as a section, based on the number's byte representation in Big-Endian.
+   *
+   * @param value Input number
+   * @return This builder
+   */
+  public AzamBuilder appendLong(long value) {
+    ensureCapacity(AzamCodec.MAX_LONG_ENCODED_LENGTH);
+    this.count = AzamCodec.encodeLongPadded(value, this.buf, this.count);
+    return this;
+  }
+
+  /**
+   * Append `len` bytes of `src` starting at `off` as a section. Nothing is appended if `len` is 0.
+   *
+   * @param src Input byte array
+   * @param off Offset in `src`
+   * @param len Number of bytes
+   * @return This builder
+   * @throws IndexOutOfBoundsException If `off` or `len` is negative, or `off + len` is greater than
+   *         the length of `src`
+   */
+  public AzamBuilder appendBytes(byte[] src, int off, int len) {
+    if (src == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (off < 0 || len < 0 || len > src.length - off)
+      throw new IndexOutOfBoundsException();
+    ensureCapacity(len * 2);
+    this.count = AzamCodec.azamEncodeBytes(src, off, len, this.buf, this.count);
+    return this;
+  }
+
+  /**
+   * Append `src` as a section. Nothing is appended if `src` is empty.
+   *
+   * @param src Input byte array
+   * @return This builder
+   */
+  public AzamBuilder appendBytes(byte[] src) {
+    if (src == null)
+      throw new IllegalArgumentException("Argument is null");
+    return appendBytes(src, 0, src.length);
+  }
+
+  /**
+   * Append the sections of `prefix`.
+   *
+   * @param prefix Encoded leading sections
+   * @return This builder
+   */
+  public AzamBuilder append(AzamPrefix prefix) {
+    if (prefix == null)
+      throw new IllegalArgumentException("Argument is null");
+    ensureCapacity(prefix.length());
+    this.count = prefix.writePrefix(this.buf, this.count);
+    return this;
+  }
+
+  /**
+   * Remove all sections, keeping the internal buffer.
+   *
+   * @return This builder
+   */
+  public AzamBuilder reset() {
+    this.count = 0;
+    return this;
+  }
+
+  /**
+   * Encoded length of the sections appended so far.
+   *
+   * @return Encoded length
+   */
+  public int length() {
+    return this.count;
+  }
+
+  /**
+   * Copy the encoded characters as ASCII bytes to `dst` starting at `dstOff`.
+   *
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws IndexOutOfBoundsException If `dst` is too small
+   */
+  public int copyTo(byte[] dst, int dstOff) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    System.arraycopy(this.buf, 0, dst, dstOff, this.count);
+    return dstOff + this.count;
+  }
+
+  /**
+   * Read-only view of the encoded characters as ASCII bytes, without copying. The view is only
+   * valid until the builder is next modified.
+   *
+   * @return Read-only buffer from position 0 to {@link #length()}
+   */
+  public ByteBuffer asReadOnlyBuffer() {
+    return ByteBuffer.wrap(this.buf, 0, this.count).asReadOnlyBuffer();
+  }
+
+  /**
+   * Encoded string of the sections appended so far.
+   */
+  @Override
+  public String toString() {
+    return new String(this.buf, 0, this.count, StandardCharsets.US_ASCII);
+  }
+
+  private void ensureCapacity(int extra) {
+    int required = this.count + extra;
+    if (required < 0)
+      throw new IllegalStateException("Encoded value is too large");
+    if (required > this.buf.length)
+      this.buf = Arrays.copyOf(this.buf, Math.max(required, this.buf.length * 2));
+  }
+}
@@ -0,0 +1,501 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Bulk encoder/decoder for batches of IDs, splitting work across a {@link ForkJoinPool}.
+ *
+ * Results are written into a single preallocated arena with an offsets index, instead of an object
+ * per ID. IDs of the same shape can also be decoded into columns, one primitive array per section.
+ * Batches no larger than the sequential threshold are processed on the calling thread.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamBulkCodec {
+  /**
+   * Default number of IDs below which a batch is not split further.
+   */
+  public final static int DEFAULT_THRESHOLD = 1024;
+
+  /**
+   * Encoded IDs, as ASCII bytes in a single arena. ID `i` is `data[offsets[i]..offsets[i + 1])`.
+   */
+  public static class Encoded {
+    final byte[] data;
+    final int[] offsets;
+
+    Encoded(byte[] data, int[] offsets) {
+      this.data = data;
+      this.offsets = offsets;
+    }
+
+    /**
+     * Number of IDs.
+     *
+     * @return Number of IDs
+     */
+    public int size() {
+      return this.offsets.length - 1;
+    }
+
+    /**
+     * Arena of encoded ASCII bytes. Returned array is not copied and must not be modified.
+     *
+     * @return Encoded ASCII bytes of all IDs
+     */
+    public byte[] data() {
+      return this.data;
+    }
+
+    /**
+     * Offsets index of IDs in {@link #data()}, with {@link #size()} + 1 elements. Returned array is
+     * not copied and must not be modified.
+     *
+     * @return Offsets index
+     */
+    public int[] offsets() {
+      return this.offsets;
+    }
+
+    /**
+     * Encoded ID at `index` as a string.
+     *
+     * @param index ID index
+     * @return Encoded ID
+     */
+    public String get(int index) {
+      return new String(this.data, this.offsets[index],
+          this.offsets[index + 1] - this.offsets[index], StandardCharsets.US_ASCII);
+    }
+  }
+
+  /**
+   * Decoded IDs, as long sections in a single arena. Sections of ID `i` are
+   * `values[offsets[i]..offsets[i + 1])`.
+   */
+  public static class Decoded {
+    final long[] values;
+    final int[] offsets;
+
+    Decoded(long[] values, int[] offsets) {
+      this.values = values;
+      this.offsets = offsets;
+    }
+
+    /**
+     * Number of IDs.
+     *
+     * @return Number of IDs
+     */
+    public int size() {
+      return this.offsets.length - 1;
+    }
+
+    /**
+     * Arena of decoded sections. Returned array is not copied and must not be modified.
+     *
+     * @return Decoded sections of all IDs
+     */
+    public long[] values() {
+      return this.values;
+    }
+
+    /**
+     * Offsets index of IDs in {@link #values()}, with {@link #size()} + 1 elements. Returned array
+     * is not copied and must not be modified.
+     *
+     * @return Offsets index
+     */
+    public int[] offsets() {
+      return this.offsets;
+    }
+
+    /**
+     * Number of sections of ID at `index`.
+     *
+     * @param index ID index
+     * @return Number of sections
+     */
+    public int sections(int index) {
+      return this.offsets[index + 1] - this.offsets[index];
+    }
+
+    /**
+     * Section `section` of ID at `index`.
+     *
+     * @param index ID index
+     * @param section Section index in the ID
+     * @return Section value
+     * @throws IndexOutOfBoundsException If the ID has no section at `section`
+     */
+    public long get(int index, int section) {
+      if (section < 0 || section >= sections(index))
+        throw new IndexOutOfBoundsException("Section index out of range: " + section);
+      return this.values[this.offsets[index] + section];
+    }
+  }
+
+  /**
+   * Encode each long array of `tuples` as an ID of long sections, on the common pool.
+   *
+   * @param tuples Input numbers
+   * @return Encoded IDs
+   */
+  public static Encoded azamEncodeAll(long[][] tuples) {
+    return azamEncodeAll(tuples, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Encode each long array of `tuples` as an ID of long sections, on `pool`, not splitting batches
+   * of `threshold` IDs or fewer.
+   *
+   * @param tuples Input numbers
+   * @param pool Pool to run on
+   * @param threshold Sequential threshold
+   * @return Encoded IDs
+   */
+  public static Encoded azamEncodeAll(long[][] tuples, ForkJoinPool pool, int threshold) {
+    if (tuples == null || pool == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (threshold < 1)
+      throw new IllegalArgumentException("Threshold must be positive");
+    int[] offsets = new int[tuples.length + 1];
+    run(pool, new EncodeTask(tuples, offsets, null, 0, tuples.length, threshold), tuples.length,
+        threshold);
+    prefixSum(offsets);
+    byte[] data = new byte[offsets[tuples.length]];
+    run(pool, new EncodeTask(tuples, offsets, data, 0, tuples.length, threshold), tuples.length,
+        threshold);
+    return new Encoded(data, offsets);
+  }
+
+  /**
+   * Decode each of `ids` as long sections, on the common pool.
+   *
+   * @param ids Azam Codec encoded strings
+   * @return Decoded IDs
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static Decoded azamDecodeAll(CharSequence[] ids) throws ParseException {
+    return azamDecodeAll(ids, DecodeMode.LENIENT, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Decode each of `ids` as long sections accepting symbols as specified by `mode`, on `pool`, not
+   * splitting batches of `threshold` IDs or fewer.
+   *
+   * @param ids Azam Codec encoded strings
+   * @param mode Decoding mode
+   * @param pool Pool to run on
+   * @param threshold Sequential threshold
+   * @return Decoded IDs
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. The message
+   *         contains index of the first invalid ID found, which is not necessarily the lowest one.
+   */
+  public static Decoded azamDecodeAll(CharSequence[] ids, DecodeMode mode, ForkJoinPool pool,
+      int threshold) throws ParseException {
+    if (ids == null || mode == null || pool == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (threshold < 1)
+      throw new IllegalArgumentException("Threshold must be positive");
+    int[] offsets = new int[ids.length + 1];
+    try {
+      run(pool, new DecodeTask(ids, mode.nybbles, offsets, null, 0, ids.length, threshold),
+          ids.length, threshold);
+      prefixSum(offsets);
+      long[] values = new long[offsets[ids.length]];
+      run(pool, new DecodeTask(ids, mode.nybbles, offsets, values, 0, ids.length, threshold),
+          ids.length, threshold);
+      return new Decoded(values, offsets);
+    } catch (InvalidIdException e) {
+      throw e.toParseException();
+    }
+  }
+
+  /**
+   * Decode `ids` that all have `columns.length` int sections into columns, one array per section,
+   * i.e. section `j` of ID `i` is decoded into `columns[j][i]`. Invalid IDs do not throw; instead
+   * `errors[i]` is set to the offset of the first invalid character of ID `i`, or its length if it
+   * has too few sections, and -1 for valid IDs. Column values of invalid IDs are unspecified.
+   *
+   * @param ids Azam Codec encoded strings
+   * @param columns Output int arrays, one per section, each at least `ids.length` long
+   * @param errors Output error offsets, at least `ids.length` long
+   * @return Number of invalid IDs
+   */
+  public static int azamDecodeColumns(CharSequence[] ids, int[][] columns, int[] errors) {
+    return azamDecodeColumns(ids, columns, errors, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode `ids` that all have `columns.length` int sections into columns, accepting symbols as
+   * specified by `mode`. See {@link #azamDecodeColumns(CharSequence[], int[][], int[])}.
+   *
+   * @param ids Azam Codec encoded strings
+   * @param columns Output int arrays, one per section, each at least `ids.length` long
+   * @param errors Output error offsets, at least `ids.length` long
+   * @param mode Decoding mode
+   * @return Number of invalid IDs
+   */
+  public static int azamDecodeColumns(CharSequence[] ids, int[][] columns, int[] errors,
+      DecodeMode mode) {
+    checkColumns(ids, columns, errors, mode);
+    for (int[] column : columns) {
+      if (column == null || column.length < ids.length)
+        throw new IllegalArgumentException("Column is null or too short");
+    }
+    return decodeColumns(ids, null, columns, errors, AzamCodec.MAX_INT_ENCODED_LENGTH,
+        mode.nybbles);
+  }
+
+  /**
+   * Decode `ids` that all have `columns.length` long sections into columns, one array per section,
+   * i.e. section `j` of ID `i` is decoded into `columns[j][i]`. Invalid IDs do not throw; instead
+   * `errors[i]` is set to the offset of the first invalid character of ID `i`, or its length if it
+   * has too few sections, and -1 for valid IDs. Column values of invalid IDs are unspecified.
+   *
+   * @param ids Azam Codec encoded strings
+   * @param columns Output long arrays, one per section, each at least `ids.length` long
+   * @param errors Output error offsets, at least `ids.length` long
+   * @return Number of invalid IDs
+   */
+  public static int azamDecodeColumns(CharSequence[] ids, long[][] columns, int[] errors) {
+    return azamDecodeColumns(ids, columns, errors, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode `ids` that all have `columns.length` long sections into columns, accepting symbols as
+   * specified by `mode`. See {@link #azamDecodeColumns(CharSequence[], long[][], int[])}.
+   *
+   * @param ids Azam Codec encoded strings
+   * @param columns Output long arrays, one per section, each at least `ids.length` long
+   * @param errors Output error offsets, at least `ids.length` long
+   * @param mode Decoding mode
+   * @return Number of invalid IDs
+   */
+  public static int azamDecodeColumns(CharSequence[] ids, long[][] columns, int[] errors,
+      DecodeMode mode) {
+    checkColumns(ids, columns, errors, mode);
+    for (long[] column : columns) {
+      if (column == null || column.length < ids.length)
+        throw new IllegalArgumentException("Column is null or too short");
+    }
+    return decodeColumns(ids, columns, null, errors, AzamCodec.MAX_LONG_ENCODED_LENGTH,
+        mode.nybbles);
+  }
+
+  private static void checkColumns(CharSequence[] ids, Object[] columns, int[] errors,
+      DecodeMode mode) {
+    if (ids == null || columns == null || errors == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (errors.length < ids.length)
+      throw new IllegalArgumentException("Errors array is too short");
+  }
+
+  private static int decodeColumns(CharSequence[] ids, long[][] longs, int[][] ints, int[] errors,
+      int maxNybbles, byte[] nybbles) {
+    int sections = longs != null ? longs.length : ints.length;
+    int invalid = 0;
+    for (int row = 0; row < ids.length; row++) {
+      CharSequence id = ids[row];
+      if (id == null)
+        throw new IllegalArgumentException("Value contains null value");
+      int error = decodeRow(id, longs, ints, row, sections, maxNybbles, nybbles);
+      errors[row] = error;
+      if (error >= 0)
+        invalid++;
+    }
+    return invalid;
+  }
+
+  /**
+   * Decode a single ID into `row` of columns without throwing.
+   *
+   * @return -1 if valid, otherwise error offset
+   */
+  private static int decodeRow(CharSequence id, long[][] longs, int[][] ints, int row, int sections,
+      int maxNybbles, byte[] nybbles) {
+    int len = id.length();
+    int section = 0;
+    int length = 0;
+    long decoded = 0L;
+    for (int i = 0; i < len; i++) {
+      byte nybble = AzamCodec.getNybbleValue(nybbles, id.charAt(i));
+      if (nybble == (byte) 0xff || section == sections)
+        return i;
+      if (length == 0 && nybble == (byte) 0x10)
+        return i;
+      if (++length > maxNybbles)
+        return i;
+      decoded = decoded << 4 | (nybble & 0x0f);
+      if (nybble >> 4 == 0x00) {
+        if (longs != null) {
+          longs[section][row] = decoded;
+        } else {
+          ints[section][row] = (int) decoded;
+        }
+        section++;
+        length = 0;
+        decoded = 0L;
+      }
+    }
+    return length > 0 || section < sections ? len : -1;
+  }
+
+  private static void run(ForkJoinPool pool, RecursiveAction task, int size, int threshold) {
+    if (size <= threshold) {
+      // Small batches do not pay for forking
+      task.invoke();
+    } else {
+      pool.invoke(task);
+    }
+  }
+
+  /**
+   * Turn lengths stored at offsets[i + 1] to offsets.
+   */
+  private static void prefixSum(int[] offsets) {
+    long sum = 0;
+    for (int i = 1; i < offsets.length; i++) {
+      sum += offsets[i];
+      if (sum > Integer.MAX_VALUE)
+        throw new IllegalArgumentException("Batch is too large");
+      offsets[i] = (int) sum;
+    }
+  }
+
+  /**
+   * Measures encoded length of each ID into offsets[i + 1] when `data` is null, otherwise encodes
+   * each ID into `data` at offsets[i].
+   */
+  static class EncodeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final long[][] tuples;
+    private final int[] offsets;
+    private final byte[] data;
+    private final int lo;
+    private final int hi;
+    private final int threshold;
+
+    EncodeTask(long[][] tuples, int[] offsets, byte[] data, int lo, int hi, int threshold) {
+      this.tuples = tuples;
+      this.offsets = offsets;
+      this.data = data;
+      this.lo = lo;
+      this.hi = hi;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.hi - this.lo > this.threshold) {
+        int mid = (this.lo + this.hi) >>> 1;
+        invokeAll(
+            new EncodeTask(this.tuples, this.offsets, this.data, this.lo, mid, this.threshold),
+            new EncodeTask(this.tuples, this.offsets, this.data, mid, this.hi, this.threshold));
+        return;
+      }
+      for (int i = this.lo; i < this.hi; i++) {
+        long[] tuple = this.tuples[i];
+        if (tuple == null)
+          throw new IllegalArgumentException("Value contains null value");
+        if (this.data == null) {
+          long length = 0;
+          for (long value : tuple)
+            length += AzamCodec.encodedLength(value);
+          if (length > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Batch is too large");
+          this.offsets[i + 1] = (int) length;
+        } else {
+          int pos = this.offsets[i];
+          for (long value : tuple)
+            pos = AzamCodec.azamEncodeLong(value, this.data, pos);
+        }
+      }
+    }
+  }
+
+  /**
+   * Counts sections of each ID into offsets[i + 1] when `values` is null, otherwise decodes each ID
+   * into `values` at offsets[i].
+   */
+  static class DecodeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final CharSequence[] ids;
+    private final byte[] nybbles;
+    private final int[] offsets;
+    private final long[] values;
+    private final int lo;
+    private final int hi;
+    private final int threshold;
+
+    DecodeTask(CharSequence[] ids, byte[] nybbles, int[] offsets, long[] values, int lo, int hi,
+        int threshold) {
+      this.ids = ids;
+      this.nybbles = nybbles;
+      this.offsets = offsets;
+      this.values = values;
+      this.lo = lo;
+      this.hi = hi;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.hi - this.lo > this.threshold) {
+        int mid = (this.lo + this.hi) >>> 1;
+        invokeAll(
+            new DecodeTask(this.ids, this.nybbles, this.offsets, this.values, this.lo, mid,
+                this.threshold),
+            new DecodeTask(this.ids, this.nybbles, this.offsets, this.values, mid, this.hi,
+                this.threshold));
+        return;
+      }
+      for (int i = this.lo; i < this.hi; i++) {
+        CharSequence id = this.ids[i];
+        if (id == null)
+          throw new IllegalArgumentException("Value contains null value");
+        if (this.values == null) {
+          this.offsets[i + 1] = AzamCodec.countSections(id, 0, id.length(), this.nybbles);
+        } else {
+          long count = AzamCodec.decodeSections(id, 0, id.length(), this.values, null,
+              this.offsets[i], AzamCodec.MAX_LONG_ENCODED_LENGTH, this.nybbles);
+          try {
+            AzamCodec.check(count);
+            if (count != this.offsets[i + 1] - this.offsets[i])
+              throw new ParseException("Invalid encoded value", 0);
+          } catch (ParseException e) {
+            throw new InvalidIdException(i, e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Carries a {@link ParseException} out of a fork/join task.
+   */
+  static class InvalidIdException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    final int index;
+
+    InvalidIdException(int index, ParseException cause) {
+      super(cause);
+      this.index = index;
+    }
+
+    ParseException toParseException() {
+      ParseException cause = (ParseException) getCause();
+      ParseException e = new ParseException("ID at index " + this.index + ": " + cause.getMessage(),
+          cause.getErrorOffset());
+      e.initCause(cause);
+      return e;
+    }
+  }
+}
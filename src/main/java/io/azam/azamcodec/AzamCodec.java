@@ -1,14 +1,18 @@
 package io.azam.azamcodec;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Azam Codec encoder/decoder.
@@ -25,89 +29,31 @@ public class AzamCodec {
       'g', 'h', 'j', 'k', 'm', 'n', 'p', 'q', //
       'r', 's', 't', 'v', 'w', 'x', 'y', 'z' //
   };
+  /// One in each byte, for word at a time arithmetic
+  static final long ONES = 0x0101010101010101L;
 
   /**
    * Consume bytes from `input`, generates Azam Codec encoded string as bytes, and writes to
-   * `output`
+   * `output`. See {@link AzamEncoderOutputStream} to encode multiple sections to a stream.
    * 
    * @param output Output stream
    * @param input Input stream
    * @throws IOException
    */
   public static void azamEncodeStream(OutputStream output, InputStream input) throws IOException {
-    int buf = -1;
-    int prevBuf = -1;
-    int count = 0;
-
-    /// 0: None, 1: Previous is high, 2: Previous is low
-    int leadNybbleStatus = 0;
-
-    buf = input.read();
-    if (buf == -1)
-      return;
-    if (buf >> 4 > 0) {
-      leadNybbleStatus = 1;
-    } else if ((((byte) buf) & 0xf) > 0) {
-      leadNybbleStatus = 2;
-    } else {
-      leadNybbleStatus = 0;
-    }
-    count++;
-    prevBuf = buf;
-
+    if (output == null || input == null)
+      throw new IllegalArgumentException("Argument is null");
+    // Read and write in batches, instead of a byte at a time
+    AzamEncoderOutputStream encoder = new AzamEncoderOutputStream(output, 256);
+    byte[] buf = new byte[256];
     for (;;) {
-      buf = input.read();
-      count++;
-
-      // EOF
-      if (buf == -1)
+      int n = input.read(buf);
+      if (n == -1)
         break;
-
-      if (leadNybbleStatus == 0) {
-        // Not flushing previous byte
-        // Update lead nybble status
-        if (buf >> 4 > 0) {
-          leadNybbleStatus = 1;
-        } else if (((byte) buf & 0xf) > 0) {
-          leadNybbleStatus = 2;
-        } else {
-          leadNybbleStatus = 0;
-        }
-      } else if (leadNybbleStatus == 1) {
-        // Flush previous byte as highs
-        int highNybble = prevBuf >> 4;
-        int lowNybble = (byte) prevBuf & 0x0f;
-        output.write(HIGHER_ALPHABETS[highNybble]);
-        output.write(HIGHER_ALPHABETS[lowNybble]);
-      } else if (leadNybbleStatus == 2) {
-        // Only flush previous byte's low nybble as high
-        int lowNybble = (byte) prevBuf & 0x0f;
-        output.write(HIGHER_ALPHABETS[lowNybble]);
-        leadNybbleStatus = 1;
-      }
-
-      prevBuf = buf;
-    }
-
-    // Flush last byte
-    if (leadNybbleStatus == 0) {
-      if (count > 0) {
-        // Previous byte is 0x00
-        // Flush as low nybble
-        output.write(LOWER_ALPHABETS[0]);
-      }
-    } else if (leadNybbleStatus == 1) {
-      // Flush previous byte's high nybble as high
-      // Flush previous byte's low nybble as low
-      int highNybble = prevBuf >> 4;
-      int lowNybble = ((byte) prevBuf) & 0x0f;
-      output.write(HIGHER_ALPHABETS[highNybble]);
-      output.write(LOWER_ALPHABETS[lowNybble]);
-    } else if (leadNybbleStatus == 2) {
-      // Flush previous byte's low nybble as low
-      int lowNybble = (byte) prevBuf & 0x0f;
-      output.write(LOWER_ALPHABETS[lowNybble]);
+      encoder.write(buf, 0, n);
     }
+    encoder.endSection();
+    encoder.flushBuffer();
   }
 
   /**
@@ -129,6 +75,320 @@ public class AzamCodec {
     }
   }
 
+  /**
+   * Maximum length of an encoded int section.
+   */
+  public final static int MAX_INT_ENCODED_LENGTH = Integer.BYTES * 2;
+
+  /**
+   * Maximum length of an encoded long section.
+   */
+  public final static int MAX_LONG_ENCODED_LENGTH = Long.BYTES * 2;
+
+  /**
+   * Encode `len` bytes of `src` starting at `srcOff` as a single Azam Codec encoded section, and
+   * write the encoded characters as ASCII bytes to `dst` starting at `dstOff`. At most `len * 2`
+   * bytes are written. Nothing is written for an empty section.
+   *
+   * @param src Input byte array
+   * @param srcOff Offset of first byte to encode in `src`
+   * @param len Number of bytes to encode
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws IndexOutOfBoundsException If `srcOff` or `len` is negative, or `srcOff + len` is
+   *         greater than the length of `src`, in which case nothing is written
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public static int azamEncodeBytes(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    if (src == null || dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (srcOff < 0 || len < 0 || srcOff > src.length - len)
+      throw new IndexOutOfBoundsException();
+    int end = srcOff + len;
+    int i = srcOff;
+    int pos = dstOff;
+
+    // Skip leading zero bytes
+    while (i < end && src[i] == 0)
+      i++;
+    if (i == end) {
+      // All zeros are encoded as a single low nybble, empty section as nothing
+      if (len > 0)
+        dst[pos++] = (byte) LOWER_ALPHABETS[0];
+      return pos;
+    }
+
+    // Leading byte, skipping its high nybble if it is zero
+    int b = src[i++] & 0xff;
+    if (b >> 4 > 0)
+      dst[pos++] = (byte) HIGHER_ALPHABETS[b >> 4];
+    if (i == end) {
+      dst[pos++] = (byte) LOWER_ALPHABETS[b & 0x0f];
+      return pos;
+    }
+    dst[pos++] = (byte) HIGHER_ALPHABETS[b & 0x0f];
+
+    // Middle bytes, in bulk
+    pos = AzamKernel.encodeHigher(src, i, end - 1 - i, dst, pos);
+    i = end - 1;
+
+    // Last byte, ending with a low nybble
+    b = src[i] & 0xff;
+    dst[pos++] = (byte) HIGHER_ALPHABETS[b >> 4];
+    dst[pos++] = (byte) LOWER_ALPHABETS[b & 0x0f];
+    return pos;
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters as ASCII bytes to `dst` starting at `dstOff`.
+   * At most {@link #MAX_INT_ENCODED_LENGTH} bytes are written.
+   *
+   * @param value Input number
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public static int azamEncodeInt(int value, byte[] dst, int dstOff) {
+    return azamEncodeLong(value & 0xffffffffL, dst, dstOff);
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters as ASCII bytes to `dst` starting at `dstOff`.
+   * At most {@link #MAX_LONG_ENCODED_LENGTH} bytes are written.
+   *
+   * @param value Input number
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public static int azamEncodeLong(long value, byte[] dst, int dstOff) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    // Bit offset of the most significant non-zero nybble
+    int shift = value == 0L ? 0 : (63 - Long.numberOfLeadingZeros(value)) & ~0x3;
+    int pos = dstOff;
+    for (; shift > 0; shift -= 4)
+      dst[pos++] = (byte) HIGHER_ALPHABETS[(int) (value >>> shift) & 0x0f];
+    dst[pos++] = (byte) LOWER_ALPHABETS[(int) value & 0x0f];
+    return pos;
+  }
+
+  /**
+   * Encoded length of `value` as a single section.
+   */
+  static int encodedLength(long value) {
+    // Zero is encoded as a single character, as is one
+    return ((63 - Long.numberOfLeadingZeros(value | 1L)) >> 2) + 1;
+  }
+
+  /**
+   * Spread the 8 nybbles of `v` to one per byte, most significant first.
+   */
+  static long spreadNybbles(int v) {
+    long x = v & 0xffffffffL;
+    // One byte of v in the low half of each 16 bit lane
+    x = (x | x << 16) & 0x0000ffff0000ffffL;
+    x = (x | x << 8) & 0x00ff00ff00ff00ffL;
+    // Move the high nybble of each byte to the high half of its lane
+    return (x & 0x00f000f000f000f0L) << 4 | (x & 0x000f000f000f000fL);
+  }
+
+  /**
+   * Map 8 nybble values, one per byte, to higher alphabet characters without branches. Characters
+   * are `'g' + n` plus one for each gap in the alphabet below `n`, at 2, 4, 6 and 11.
+   */
+  static long higherChars(long nybbles) {
+    long gaps = (nybbles + 0x7e * ONES >>> 7 & ONES) + (nybbles + 0x7c * ONES >>> 7 & ONES)
+        + (nybbles + 0x7a * ONES >>> 7 & ONES) + (nybbles + 0x75 * ONES >>> 7 & ONES);
+    return nybbles + 'g' * ONES + gaps;
+  }
+
+  /**
+   * Characters of the low 8 nybbles of `value`, one per byte, the last one being the lower alphabet
+   * character terminating a section.
+   */
+  static long lowChars(long value) {
+    long n = value & 0x0f;
+    // '0' + n, skipping the characters between '9' and 'a' for n >= 10
+    return higherChars(spreadNybbles((int) value)) & ~0xffL | '0' + n + (n + 0x76 >>> 7) * 39;
+  }
+
+  /**
+   * Encode `value` as {@link #azamEncodeLong(long, byte[], int)} does, writing whole words of
+   * characters. `dst` must have room for {@link #MAX_LONG_ENCODED_LENGTH} bytes at `pos`, or
+   * {@link #MAX_INT_ENCODED_LENGTH} bytes if `value` fits in 32 bits, even if fewer characters are
+   * significant. Bytes past the returned position are overwritten with garbage.
+   */
+  static int encodeLongPadded(long value, byte[] dst, int pos) {
+    int length = encodedLength(value);
+    if (length > 8) {
+      // Significant characters of each word first
+      AzamKernel.putLong(dst, pos,
+          higherChars(spreadNybbles((int) (value >>> 32))) << ((16 - length) << 3));
+      pos += length - 8;
+      length = 8;
+    }
+    AzamKernel.putLong(dst, pos, lowChars(value) << ((8 - length) << 3));
+    return pos + length;
+  }
+
+  /**
+   * Encode remaining bytes of `src` as a single Azam Codec encoded section, and write the encoded
+   * characters as ASCII bytes to `dst`. Both buffers are advanced; neither is modified if `dst`
+   * does not have enough space remaining. Works on both heap and direct buffers.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeBytes(ByteBuffer src, ByteBuffer dst) {
+    if (src == null || dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int lead = leadingByte(src);
+    int length = encodedLength(src, lead);
+    if (dst.remaining() < length)
+      throw new BufferOverflowException();
+    if (src.hasArray() && dst.hasArray()) {
+      int pos = azamEncodeBytes(src.array(), src.arrayOffset() + src.position(), src.remaining(),
+          dst.array(), dst.arrayOffset() + dst.position());
+      // Buffer methods are overridden with covariant return types since Java 9, so call them
+      // through Buffer to stay compatible with Java 8 runtime
+      ((Buffer) dst).position(pos - dst.arrayOffset());
+    } else {
+      for (int i = 0; i < length; i++)
+        dst.put((byte) encodedSymbol(src, lead, length, i));
+    }
+    ((Buffer) src).position(src.limit());
+  }
+
+  /**
+   * Encode remaining bytes of `src` as a single Azam Codec encoded section, and write the encoded
+   * characters to `dst`. Both buffers are advanced; neither is modified if `dst` does not have
+   * enough space remaining.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeBytes(ByteBuffer src, CharBuffer dst) {
+    if (src == null || dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int lead = leadingByte(src);
+    int length = encodedLength(src, lead);
+    if (dst.remaining() < length)
+      throw new BufferOverflowException();
+    for (int i = 0; i < length; i++)
+      dst.put((char) encodedSymbol(src, lead, length, i));
+    ((Buffer) src).position(src.limit());
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters as ASCII bytes to `dst`. `dst` is not modified
+   * if it does not have enough space remaining.
+   *
+   * @param value Input number
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeInt(int value, ByteBuffer dst) {
+    azamEncodeLong(value & 0xffffffffL, dst);
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters to `dst`. `dst` is not modified if it does not
+   * have enough space remaining.
+   *
+   * @param value Input number
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeInt(int value, CharBuffer dst) {
+    azamEncodeLong(value & 0xffffffffL, dst);
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters as ASCII bytes to `dst`. `dst` is not modified
+   * if it does not have enough space remaining.
+   *
+   * @param value Input number
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeLong(long value, ByteBuffer dst) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int shift = value == 0L ? 0 : (63 - Long.numberOfLeadingZeros(value)) & ~0x3;
+    if (dst.remaining() < (shift >> 2) + 1)
+      throw new BufferOverflowException();
+    for (; shift > 0; shift -= 4)
+      dst.put((byte) HIGHER_ALPHABETS[(int) (value >>> shift) & 0x0f]);
+    dst.put((byte) LOWER_ALPHABETS[(int) value & 0x0f]);
+  }
+
+  /**
+   * Encode `value` as a single Azam Codec encoded section based on the number's byte representation
+   * in Big-Endian, and write the encoded characters to `dst`. `dst` is not modified if it does not
+   * have enough space remaining.
+   *
+   * @param value Input number
+   * @param dst Output buffer
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   */
+  public static void azamEncodeLong(long value, CharBuffer dst) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int shift = value == 0L ? 0 : (63 - Long.numberOfLeadingZeros(value)) & ~0x3;
+    if (dst.remaining() < (shift >> 2) + 1)
+      throw new BufferOverflowException();
+    for (; shift > 0; shift -= 4)
+      dst.put((char) HIGHER_ALPHABETS[(int) (value >>> shift) & 0x0f]);
+    dst.put((char) LOWER_ALPHABETS[(int) value & 0x0f]);
+  }
+
+  /**
+   * Absolute index of the first non-zero byte in remaining bytes of `src`, or `src.limit()` if all
+   * remaining bytes are zero.
+   */
+  static int leadingByte(ByteBuffer src) {
+    int i = src.position();
+    int limit = src.limit();
+    while (i < limit && src.get(i) == 0)
+      i++;
+    return i;
+  }
+
+  /**
+   * Encoded length of remaining bytes of `src`, where `lead` is the index of the first non-zero
+   * byte.
+   */
+  static int encodedLength(ByteBuffer src, int lead) {
+    if (lead == src.limit())
+      return src.hasRemaining() ? 1 : 0;
+    return (src.limit() - lead) * 2 - ((src.get(lead) & 0xf0) == 0 ? 1 : 0);
+  }
+
+  /**
+   * Symbol of the `i`-th nybble of encoded remaining bytes of `src`, where `lead` is the index of
+   * the first non-zero byte and `length` is the encoded length.
+   */
+  static int encodedSymbol(ByteBuffer src, int lead, int length, int i) {
+    if (lead == src.limit())
+      return LOWER_ALPHABETS[0];
+    // Nybble index counted from the end, 0 being the low nybble of the last byte
+    int r = length - 1 - i;
+    int b = src.get(src.limit() - 1 - (r >> 1)) & 0xff;
+    int nybble = (r & 1) == 0 ? b & 0x0f : b >> 4;
+    return r == 0 ? LOWER_ALPHABETS[nybble] : HIGHER_ALPHABETS[nybble];
+  }
+
   /**
    * For each byte array `values`, generate Azam Codec encoded string section, concatenate all
    * sections and returns the string.
@@ -139,21 +399,19 @@ public class AzamCodec {
   public static String azamEncodeBytes(byte[]... values) {
     if (values == null)
       throw new IllegalArgumentException("Value is null");
-    try (ByteArrayOutputStream output = new ByteArrayOutputStream(values.length)) {
-      for (byte[] value : values) {
-        if (value == null)
-          throw new IllegalArgumentException("Value contains null value");
-        try (ByteArrayInputStream input = new ByteArrayInputStream(value)) {
-          azamEncodeStream(output, input);
-        }
-      }
-      // All Azam Codec characters are ASCII so this should do fine
-      return new String(output.toByteArray(), StandardCharsets.US_ASCII);
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new IllegalArgumentException("Unexpected IOException", io);
+    int length = 0;
+    for (byte[] value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("Value contains null value");
+      length += value.length * 2;
+    }
+    byte[] output = new byte[length];
+    int pos = 0;
+    for (byte[] value : values) {
+      pos = azamEncodeBytes(value, 0, value.length, output, pos);
     }
+    // All Azam Codec characters are ASCII so this should do fine
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
   }
 
   /**
@@ -175,47 +433,34 @@ public class AzamCodec {
   public static String azamEncodeNumbers(Number... values) {
     if (values == null)
       throw new IllegalArgumentException("Value is null");
-    try (ByteArrayOutputStream output = new ByteArrayOutputStream(values.length)) {
-      for (Number value : values) {
-        if (value == null)
-          throw new IllegalArgumentException("Value contains null");
-        byte[] bytes;
-        if (value instanceof Integer) {
-          int data = value.intValue();
-          bytes = new byte[] { //
-              (byte) ((data >> 24) & 0xff), //
-              (byte) ((data >> 16) & 0xff), //
-              (byte) ((data >> 8) & 0xff), //
-              (byte) (data & 0xff), //
-          };
-        } else if (value instanceof Long) {
-          long data = value.longValue();
-          bytes = new byte[] { //
-              (byte) ((data >> 56) & 0xff), //
-              (byte) ((data >> 48) & 0xff), //
-              (byte) ((data >> 40) & 0xff), //
-              (byte) ((data >> 32) & 0xff), //
-              (byte) ((data >> 24) & 0xff), //
-              (byte) ((data >> 16) & 0xff), //
-              (byte) ((data >> 8) & 0xff), //
-              (byte) (data & 0xff), //
-          };
-        } else if (value instanceof BigInteger) {
-          BigInteger data = (BigInteger) value;
-          bytes = data.toByteArray();
-        } else {
-          throw new IllegalArgumentException("Value is not a supported Number");
-        }
-        try (ByteArrayInputStream input = new ByteArrayInputStream(bytes)) {
-          azamEncodeStream(output, input);
-        }
+    int length = 0;
+    for (Number value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("Value contains null");
+      if (value instanceof Integer) {
+        length += MAX_INT_ENCODED_LENGTH;
+      } else if (value instanceof Long) {
+        length += MAX_LONG_ENCODED_LENGTH;
+      } else if (value instanceof BigInteger) {
+        // Same length as BigInteger.toByteArray()
+        length += (((BigInteger) value).bitLength() / 8 + 1) * 2;
+      } else {
+        throw new IllegalArgumentException("Value is not a supported Number");
+      }
+    }
+    byte[] output = new byte[length];
+    int pos = 0;
+    for (Number value : values) {
+      if (value instanceof Integer) {
+        pos = azamEncodeInt(value.intValue(), output, pos);
+      } else if (value instanceof Long) {
+        pos = azamEncodeLong(value.longValue(), output, pos);
+      } else {
+        byte[] bytes = ((BigInteger) value).toByteArray();
+        pos = azamEncodeBytes(bytes, 0, bytes.length, output, pos);
       }
-      return new String(output.toByteArray(), StandardCharsets.US_ASCII);
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new IllegalArgumentException("Unexpected IOException", io);
     }
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
   }
 
   /**
@@ -228,24 +473,12 @@ public class AzamCodec {
   public static String azamEncodeInts(int... values) {
     if (values == null)
       throw new IllegalArgumentException("Values are null");
-    try (ByteArrayOutputStream output = new ByteArrayOutputStream(values.length)) {
-      for (int value : values) {
-        byte[] bytes = new byte[] { //
-            (byte) ((value >> 24) & 0xff), //
-            (byte) ((value >> 16) & 0xff), //
-            (byte) ((value >> 8) & 0xff), //
-            (byte) (value & 0xff), //
-        };
-        try (ByteArrayInputStream input = new ByteArrayInputStream(bytes)) {
-          azamEncodeStream(output, input);
-        }
-      }
-      return new String(output.toByteArray(), StandardCharsets.US_ASCII);
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new IllegalArgumentException("Unexpected IOException", io);
+    byte[] output = new byte[values.length * MAX_INT_ENCODED_LENGTH];
+    int pos = 0;
+    for (int value : values) {
+      pos = encodeLongPadded(value & 0xffffffffL, output, pos);
     }
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
   }
 
   /**
@@ -258,129 +491,337 @@ public class AzamCodec {
   public static String azamEncodeLongs(long... values) {
     if (values == null)
       throw new IllegalArgumentException("Values are null");
-    try (ByteArrayOutputStream output = new ByteArrayOutputStream(values.length)) {
-      for (long value : values) {
-        byte[] bytes = new byte[] { //
-            (byte) ((value >> 56) & 0xff), //
-            (byte) ((value >> 48) & 0xff), //
-            (byte) ((value >> 40) & 0xff), //
-            (byte) ((value >> 32) & 0xff), //
-            (byte) ((value >> 24) & 0xff), //
-            (byte) ((value >> 16) & 0xff), //
-            (byte) ((value >> 8) & 0xff), //
-            (byte) (value & 0xff), //
-        };
-        try (ByteArrayInputStream input = new ByteArrayInputStream(bytes)) {
-          azamEncodeStream(output, input);
-        }
+    byte[] output = new byte[values.length * MAX_LONG_ENCODED_LENGTH];
+    int pos = 0;
+    for (long value : values) {
+      pos = encodeLongPadded(value, output, pos);
+    }
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * For each byte array of `values`, append Azam Codec encoded section to `out`, without
+   * intermediate strings.
+   *
+   * @param out Output string builder
+   * @param values Input byte arrays
+   * @return `out`
+   */
+  public static StringBuilder azamEncodeBytesTo(StringBuilder out, byte[]... values) {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    int length = 0;
+    for (byte[] value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("Value contains null value");
+      length += value.length * 2;
+    }
+    out.ensureCapacity(out.length() + length);
+    try {
+      for (byte[] value : values)
+        appendBytes(out, value);
+    } catch (IOException e) {
+      // StringBuilder does not throw
+      throw new IllegalStateException(e);
+    }
+    return out;
+  }
+
+  /**
+   * For each byte array of `values`, append Azam Codec encoded section to `out`, without
+   * intermediate strings.
+   *
+   * @param out Output appendable
+   * @param values Input byte arrays
+   * @return `out`
+   * @throws IOException On IO errors of `out`
+   */
+  public static Appendable azamEncodeBytesTo(Appendable out, byte[]... values) throws IOException {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    for (byte[] value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("Value contains null value");
+    }
+    for (byte[] value : values)
+      appendBytes(out, value);
+    return out;
+  }
+
+  /**
+   * For each int of `values`, append Azam Codec encoded section based on the number's byte
+   * representation in Big-Endian to `out`, without intermediate strings.
+   *
+   * @param out Output string builder
+   * @param values Input numbers
+   * @return `out`
+   */
+  public static StringBuilder azamEncodeIntsTo(StringBuilder out, int... values) {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    out.ensureCapacity(out.length() + values.length * MAX_INT_ENCODED_LENGTH);
+    try {
+      for (int value : values)
+        appendLong(out, value & 0xffffffffL);
+    } catch (IOException e) {
+      // StringBuilder does not throw
+      throw new IllegalStateException(e);
+    }
+    return out;
+  }
+
+  /**
+   * For each int of `values`, append Azam Codec encoded section based on the number's byte
+   * representation in Big-Endian to `out`, without intermediate strings.
+   *
+   * @param out Output appendable
+   * @param values Input numbers
+   * @return `out`
+   * @throws IOException On IO errors of `out`
+   */
+  public static Appendable azamEncodeIntsTo(Appendable out, int... values) throws IOException {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    for (int value : values)
+      appendLong(out, value & 0xffffffffL);
+    return out;
+  }
+
+  /**
+   * For each long of `values`, append Azam Codec encoded section based on the number's byte
+   * representation in Big-Endian to `out`, without intermediate strings.
+   *
+   * @param out Output string builder
+   * @param values Input numbers
+   * @return `out`
+   */
+  public static StringBuilder azamEncodeLongsTo(StringBuilder out, long... values) {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    out.ensureCapacity(out.length() + values.length * MAX_LONG_ENCODED_LENGTH);
+    try {
+      for (long value : values)
+        appendLong(out, value);
+    } catch (IOException e) {
+      // StringBuilder does not throw
+      throw new IllegalStateException(e);
+    }
+    return out;
+  }
+
+  /**
+   * For each long of `values`, append Azam Codec encoded section based on the number's byte
+   * representation in Big-Endian to `out`, without intermediate strings.
+   *
+   * @param out Output appendable
+   * @param values Input numbers
+   * @return `out`
+   * @throws IOException On IO errors of `out`
+   */
+  public static Appendable azamEncodeLongsTo(Appendable out, long... values) throws IOException {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    for (long value : values)
+      appendLong(out, value);
+    return out;
+  }
+
+  /**
+   * Character version of {@link #azamEncodeLong(long, byte[], int)}.
+   */
+  private static void appendLong(Appendable out, long value) throws IOException {
+    int length = encodedLength(value);
+    if (length > 8)
+      appendChars(out, higherChars(spreadNybbles((int) (value >>> 32))), length - 8);
+    appendChars(out, lowChars(value), Math.min(length, 8));
+  }
+
+  /**
+   * Append the last `count` characters of `chars`, one per byte, to `out`.
+   */
+  private static void appendChars(Appendable out, long chars, int count) throws IOException {
+    for (int shift = (count - 1) << 3; shift >= 0; shift -= 8)
+      out.append((char) (chars >>> shift & 0xff));
+  }
+
+  /**
+   * Character version of {@link #azamEncodeBytes(byte[], int, int, byte[], int)}.
+   */
+  private static void appendBytes(Appendable out, byte[] src) throws IOException {
+    int end = src.length;
+    int i = 0;
+    while (i < end && src[i] == 0)
+      i++;
+    if (i == end) {
+      if (end > 0)
+        out.append((char) LOWER_ALPHABETS[0]);
+      return;
+    }
+    // Leading byte, skipping its high nybble if it is zero
+    int b = src[i++] & 0xff;
+    if (b >> 4 > 0)
+      out.append((char) HIGHER_ALPHABETS[b >> 4]);
+    for (; i < end; i++) {
+      out.append((char) HIGHER_ALPHABETS[b & 0x0f]);
+      b = src[i] & 0xff;
+      out.append((char) HIGHER_ALPHABETS[b >> 4]);
+    }
+    out.append((char) LOWER_ALPHABETS[b & 0x0f]);
+  }
+
+  /**
+   * Decoding mode, selecting which symbols are accepted when decoding.
+   */
+  public enum DecodeMode {
+    /**
+     * Accept only canonical lowercase symbols, as produced by the encoders.
+     */
+    STRICT(false),
+    /**
+     * Accept uppercase symbols and aliases ('o' for '0', 'i' and 'l' for '1'), in any case.
+     */
+    LENIENT(true);
+
+    /// Nybble values indexed by symbol, 0x00..0x0f for lower, 0x10..0x1f for higher, 0xff invalid
+    final byte[] nybbles;
+    final Comparator<CharSequence> comparator;
+    final Comparator<byte[]> bytesComparator;
+
+    DecodeMode(boolean lenient) {
+      this.nybbles = nybbleTable(lenient);
+      this.comparator = new CharSequenceComparator(this.nybbles);
+      this.bytesComparator = new BytesComparator(this.nybbles);
+    }
+  }
+
+  /**
+   * Error found by exception free decoders such as
+   * {@link AzamCodec#azamTryDecodeLongs(CharSequence, long[])}. Their results are non-negative on
+   * success, and negative on error, packing the error and its offset; see {@link #of(long)} and
+   * {@link #offset(long)}.
+   */
+  public enum DecodeError {
+    /**
+     * Character is not an Azam Codec symbol.
+     */
+    UNKNOWN_CHAR("Invalid encoded value (unknown char)"),
+    /**
+     * Section starts with 'g', a leading zero nybble.
+     */
+    LEADING_G("Invalid encoded value ('g' cannot be a leading char)"),
+    /**
+     * Section has more nybbles than the decoded type holds.
+     */
+    TOO_LONG("Encoded value is too long to convert"),
+    /**
+     * Value does not end with a lower nybble symbol.
+     */
+    UNTERMINATED("Invalid encoded value (does not end with lower nybble char)");
+
+    /// Cached, as values() copies
+    private static final DecodeError[] VALUES = values();
+
+    private final String message;
+
+    DecodeError(String message) {
+      this.message = message;
+    }
+
+    /**
+     * Message of {@link ParseException} thrown for this error by decoders that throw.
+     *
+     * @return Exception message
+     */
+    public String message() {
+      return this.message;
+    }
+
+    /**
+     * Error of decoder `result`, or null on success.
+     *
+     * @param result Result of an exception free decoder
+     * @return Error, or null if `result` is non-negative
+     */
+    public static DecodeError of(long result) {
+      return result < 0 ? VALUES[(int) (result >>> 32) & 0x7fffffff] : null;
+    }
+
+    /**
+     * Error offset of decoder `result`, or -1 on success.
+     *
+     * @param result Result of an exception free decoder
+     * @return Offset of the error, or -1 if `result` is non-negative
+     */
+    public static int offset(long result) {
+      return result < 0 ? (int) result : -1;
+    }
+
+    /**
+     * Pack this error at `offset` into a negative result.
+     *
+     * @param offset Error offset
+     * @return Negative decoder result
+     */
+    long at(int offset) {
+      return Long.MIN_VALUE | (long) ordinal() << 32 | offset & 0xffffffffL;
+    }
+
+    /**
+     * Exception thrown for this error at `offset` by decoders that throw.
+     *
+     * @param offset Error offset
+     * @return Exception to throw
+     */
+    ParseException exception(int offset) {
+      return new ParseException(this.message, offset);
+    }
+  }
+
+  /**
+   * Return non-negative decoder `result`, or throw its error.
+   */
+  static int check(long result) throws ParseException {
+    if (result < 0)
+      throw DecodeError.of(result).exception(DecodeError.offset(result));
+    return (int) result;
+  }
+
+  /**
+   * Return non-negative decoder `result`, or throw its error as {@link IllegalArgumentException}
+   * caused by a {@link ParseException}, where checked exceptions are not allowed.
+   */
+  static int checkArgument(long result) {
+    try {
+      return check(result);
+    } catch (ParseException e) {
+      throw new IllegalArgumentException("Invalid encoded value", e);
+    }
+  }
+
+  static byte[] nybbleTable(boolean lenient) {
+    byte[] table = new byte[256];
+    Arrays.fill(table, (byte) 0xff);
+    for (int i = 0; i < 16; i++) {
+      table[LOWER_ALPHABETS[i]] = (byte) i;
+      table[HIGHER_ALPHABETS[i]] = (byte) (0x10 | i);
+      if (lenient) {
+        table[Character.toUpperCase(LOWER_ALPHABETS[i])] = (byte) i;
+        table[Character.toUpperCase(HIGHER_ALPHABETS[i])] = (byte) (0x10 | i);
       }
-      return new String(output.toByteArray(), StandardCharsets.US_ASCII);
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new IllegalArgumentException("Unexpected IOException", io);
     }
+    if (lenient) {
+      table['o'] = table['O'] = (byte) 0x00;
+      table['i'] = table['I'] = table['l'] = table['L'] = (byte) 0x01;
+    }
+    return table;
   }
 
   final static byte getNybbleValue(final int symbol) {
-    switch (symbol) {
-      // Lower nybble
-      case '0':
-      case 'o':
-      case 'O':
-        return (byte) 0x00;
-      case '1':
-      case 'i':
-      case 'I':
-      case 'l':
-      case 'L':
-        return (byte) 0x01;
-      case '2':
-        return (byte) 0x02;
-      case '3':
-        return (byte) 0x03;
-      case '4':
-        return (byte) 0x04;
-      case '5':
-        return (byte) 0x05;
-      case '6':
-        return (byte) 0x06;
-      case '7':
-        return (byte) 0x07;
-      case '8':
-        return (byte) 0x08;
-      case '9':
-        return (byte) 0x09;
-      case 'a':
-      case 'A':
-        return (byte) 0x0a;
-      case 'b':
-      case 'B':
-        return (byte) 0x0b;
-      case 'c':
-      case 'C':
-        return (byte) 0x0c;
-      case 'd':
-      case 'D':
-        return (byte) 0x0d;
-      case 'e':
-      case 'E':
-        return (byte) 0x0e;
-      case 'f':
-      case 'F':
-        return (byte) 0x0f;
-      // Higher nybble
-      case 'g':
-      case 'G':
-        return (byte) 0x10;
-      case 'h':
-      case 'H':
-        return (byte) 0x11;
-      case 'j':
-      case 'J':
-        return (byte) 0x12;
-      case 'k':
-      case 'K':
-        return (byte) 0x13;
-      case 'm':
-      case 'M':
-        return (byte) 0x14;
-      case 'n':
-      case 'N':
-        return (byte) 0x15;
-      case 'p':
-      case 'P':
-        return (byte) 0x16;
-      case 'q':
-      case 'Q':
-        return (byte) 0x17;
-      case 'r':
-      case 'R':
-        return (byte) 0x18;
-      case 's':
-      case 'S':
-        return (byte) 0x19;
-      case 't':
-      case 'T':
-        return (byte) 0x1a;
-      case 'v':
-      case 'V':
-        return (byte) 0x1b;
-      case 'w':
-      case 'W':
-        return (byte) 0x1c;
-      case 'x':
-      case 'X':
-        return (byte) 0x1d;
-      case 'y':
-      case 'Y':
-        return (byte) 0x1e;
-      case 'z':
-      case 'Z':
-        return (byte) 0x1f;
-      default:
-        return (byte) 0xff;
-    }
+    return getNybbleValue(DecodeMode.LENIENT.nybbles, symbol);
+  }
+
+  final static byte getNybbleValue(final byte[] nybbles, final int symbol) {
+    return symbol >= 0 && symbol < nybbles.length ? nybbles[symbol] : (byte) 0xff;
   }
 
   /**
@@ -395,13 +836,32 @@ public class AzamCodec {
    */
   public static void azamDecodeStreamSection(InputStream input, OutputStream output)
       throws EOFException, IOException, ParseException {
-    // Bitshift operators recasts to integer, so we have to
-    // mask byte variables with 0xff before doing integer operations.
+    azamDecodeStreamSection(input, output, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Consume a single section of an Azam Codec encoded stream from `input` and write decoded bytes
+   * to `output`, accepting symbols as specified by `mode`.
+   *
+   * @param input Input stream
+   * @param output Output stream
+   * @param mode Decoding mode
+   * @throws EOFException On end of a stream
+   * @throws IOException On unexpected IO exceptions
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static void azamDecodeStreamSection(InputStream input, OutputStream output,
+      DecodeMode mode) throws EOFException, IOException, ParseException {
+    if (mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] nybbles = mode.nybbles;
 
-    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-    byte prevNybble = 0x00; /// Must always be 0x0..0xf . No need to mask with 0xff
-    boolean isOdd = false;
-    boolean leadNybbleChecked = false;
+    // Nybble count parity is only known at the terminating lower nybble char, so nybbles are
+    // accumulated in a register, which covers sections up to 8 bytes (ints and longs). Nybbles of
+    // longer sections that do not fit in the register spill to an array. Decoded bytes are then
+    // written in a single forward pass.
+    long register = 0L;
+    byte[] spill = null;
     int count = 0;
 
     for (;;) {
@@ -413,68 +873,60 @@ public class AzamCodec {
           // Empty stream
           throw new EOFException();
         } else {
-          throw new ParseException("Invalid encoded value (does not end with lower nybble char)",
-              count);
+          throw DecodeError.UNTERMINATED.exception(count);
         }
       }
-      count++;
 
-      byte value = getNybbleValue(buf);
+      byte value = getNybbleValue(nybbles, buf);
 
       // Invalid
       if (value == (byte) 0xff)
-        throw new ParseException("Invalid encoded value (unknown char)", count - 1);
-
-      // Flip oddness
-      isOdd = !isOdd;
-
-      if (!leadNybbleChecked) {
-        // If the first byte starts with a high nibble 0 (g or G), return error as
-        // invalid data
-        if (value == (byte) 0x10)
-          throw new ParseException("Invalid encoded value ('g' cannot be a leading char)",
-              count - 1);
-        leadNybbleChecked = true;
-      }
+        throw DecodeError.UNKNOWN_CHAR.exception(count);
 
-      // Take previous nybble, shift left 4 and bit or current nybble
-      if (!isOdd) {
-        bytes.write((byte) ((prevNybble << 4) | (value & 0x0f)));
-      }
+      // If the first byte starts with a high nibble 0 (g or G), return error as invalid data
+      if (count == 0 && value == (byte) 0x10)
+        throw DecodeError.LEADING_G.exception(count);
 
-      // Remember current nybble for next iteration
-      prevNybble = (byte) (value & 0x0f);
+      if (count < REGISTER_NYBBLES) {
+        register = register << 4 | (value & 0x0f);
+      } else {
+        int index = count - REGISTER_NYBBLES;
+        if (spill == null) {
+          spill = new byte[REGISTER_NYBBLES];
+        } else if (index == spill.length) {
+          spill = Arrays.copyOf(spill, index * 2);
+        }
+        spill[index] = (byte) (value & 0x0f);
+      }
+      count++;
 
       // If current nybble is a low nybble, this is the last one, so exit loop
-      if ((value & 0xff) >> 4 == 0x00)
+      if (value >> 4 == 0x00)
         break;
     }
 
-    // If nybble count is odd, then there is one unwritten nybble.
-    // Add the unwritten nybble, and shift whole byte array 4 bits to the right.
-    if (isOdd && count > 0) {
-      // Flush last nybble. This will be shifted later.
-      bytes.write((byte) (prevNybble << 4));
+    // On odd nybble count, the first byte only has a low nybble
+    int registered = Math.min(count, REGISTER_NYBBLES);
+    int i = 0;
+    if ((count & 1) == 1)
+      output.write(nybbleAt(register, registered, spill, i++));
+    for (; i < count; i += 2)
+      output.write(nybbleAt(register, registered, spill, i) << 4
+          | nybbleAt(register, registered, spill, i + 1));
+  }
 
-      byte[] arr = bytes.toByteArray();
+  /// Number of nybbles accumulated in a long register
+  private final static int REGISTER_NYBBLES = Long.SIZE / 4;
 
-      // Right shift byte array for 4 bits, in place
-      byte carry = (byte) 0x00; /// Must always be 0x0..0xf
-      for (int i = 0; i < arr.length; i++) {
-        byte b = arr[i];
-        arr[i] = (byte) ((b & 0xff) >> 4 | (carry << 4));
-        carry = (byte) (b & 0x0f);
-      }
-
-      // Flush ByteBuffer to OutputStream
-      output.write(arr);
-      return;
-    }
-
-    // Flush ByteBuffer to OutputStream
-    output.write(bytes.toByteArray());
-    return;
-  }
+  /**
+   * Get `i`-th nybble of a section, where the first `registered` nybbles are in `register` and the
+   * rest are in `spill`.
+   */
+  private static int nybbleAt(long register, int registered, byte[] spill, int i) {
+    if (i < registered)
+      return (int) (register >>> ((registered - 1 - i) << 2)) & 0x0f;
+    return spill[i - registered];
+  }
 
   /**
    * Decode all sections of an Azam Codec encoded string `value` as arrays of byte array.
@@ -484,33 +936,51 @@ public class AzamCodec {
    * @throws ParseException On invalid Azam Codec characters and/or character orders
    */
   public static byte[][] azamDecodeBytes(String value) throws ParseException {
-    if (value == null)
+    return azamDecodeBytes(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` as arrays of byte array, accepting
+   * symbols as specified by `mode`.
+   * 
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as array of byte array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static byte[][] azamDecodeBytes(String value, DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
       throw new IllegalArgumentException("Argument is null");
-    try (InputStream input = new ByteArrayInputStream(value.getBytes())) {
-      byte[][] values = new byte[0][];
-      for (int i = 0;; i++) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-          azamDecodeStreamSection(input, output);
-
-          // Extend return array
-          byte[][] extended = new byte[i + 1][];
-          if (values.length > 0) {
-            System.arraycopy(values, 0, extended, 0, values.length);
-          }
-          extended[i] = output.toByteArray();
-          values = extended;
-        } catch (EOFException eof) {
-          // azamDecodeStream throws EOFException only on empty streams,
-          // so when we receive this, it should be the last one to ignore
-          break;
-        }
-      }
-      return values;
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new ParseException("Unexpected IO Exception: " + io.getMessage(), -1);
+    byte[] nybbles = mode.nybbles;
+    int len = value.length();
+    // Validate and count sections first, so that the result is allocated once
+    int count = 0;
+    for (int i = 0; i < len; count++)
+      i = check(sectionEnd(value, i, len, nybbles));
+    byte[][] values = new byte[count][];
+    for (int i = 0, k = 0; i < len; k++) {
+      int end = (int) sectionEnd(value, i, len, nybbles);
+      values[k] = decodeBytes(value, i, end, nybbles);
+      i = end;
     }
+    return values;
+  }
+
+  /**
+   * Decode validated section `value[start..end)` to a byte array. On odd nybble count, the first
+   * byte only has a low nybble.
+   */
+  private static byte[] decodeBytes(CharSequence value, int start, int end, byte[] nybbles) {
+    int count = end - start;
+    byte[] bytes = new byte[(count + 1) >> 1];
+    int i = start;
+    int k = 0;
+    if ((count & 1) == 1)
+      bytes[k++] = (byte) (nybbles[value.charAt(i++)] & 0x0f);
+    for (; i < end; i += 2)
+      bytes[k++] =
+          (byte) ((nybbles[value.charAt(i)] & 0x0f) << 4 | (nybbles[value.charAt(i + 1)] & 0x0f));
+    return bytes;
   }
 
   /**
@@ -521,42 +991,135 @@ public class AzamCodec {
    * @throws ParseException On invalid Azam Codec characters and/or character orders
    */
   public static int[] azamDecodeInts(String value) throws ParseException {
+    return azamDecodeInts(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` as int array, accepting symbols as
+   * specified by `mode`.
+   * 
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as int array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int[] azamDecodeInts(String value, DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    int[] values = new int[countSections(value, 0, value.length(), mode.nybbles)];
+    azamDecodeInts(value, 0, value.length(), values, mode);
+    return values;
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` into `dst` as ints, without
+   * allocating. If `dst` is null or shorter than the number of sections, only the sections that fit
+   * are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output int array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamDecodeInts(CharSequence value, int[] dst) throws ParseException {
+    return azamDecodeInts(value, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` into `dst` as ints, accepting
+   * symbols as specified by `mode`. See {@link #azamDecodeInts(CharSequence, int[])}.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output int array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamDecodeInts(CharSequence value, int[] dst, DecodeMode mode)
+      throws ParseException {
     if (value == null)
       throw new IllegalArgumentException("Argument is null");
-    try (InputStream input = new ByteArrayInputStream(value.getBytes())) {
-      int[] values = new int[0];
-      for (int i = 0;; i++) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-          azamDecodeStreamSection(input, output);
-          byte[] bytes = output.toByteArray();
-
-          // BigEndian byte array to int
-          if (bytes == null || bytes.length == 0 || bytes.length > Integer.BYTES)
-            throw new ParseException("Encoded value is empty or too long to convert to int", -1);
-          int decoded = 0;
-          for (int j = 0; j < bytes.length; j++) {
-            decoded = decoded << 8 | (bytes[j] & 0xff);
-          }
-
-          // Extend return array
-          int[] extended = new int[i + 1];
-          if (values.length > 0) {
-            System.arraycopy(values, 0, extended, 0, values.length);
-          }
-          extended[i] = decoded;
-          values = extended;
-        } catch (EOFException eof) {
-          // azamDecodeStream throws EOFException only on empty streams,
-          // so when we receive this, it should be the last one to ignore
-          break;
-        }
-      }
-      return values;
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new ParseException("Unexpected IO Exception: " + io.getMessage(), -1);
-    }
+    return azamDecodeInts(value, 0, value.length(), dst, mode);
+  }
+
+  /**
+   * Decode all sections of `len` characters of Azam Codec encoded string `value` starting at `off`
+   * into `dst` as ints, without allocating. If `dst` is null or shorter than the number of
+   * sections, only the sections that fit are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param off Offset of first character to decode
+   * @param len Number of characters to decode
+   * @param dst Output int array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeInts(CharSequence value, int off, int len, int[] dst)
+      throws ParseException {
+    return azamDecodeInts(value, off, len, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of `len` characters of Azam Codec encoded string `value` starting at `off`
+   * into `dst` as ints, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeInts(CharSequence, int, int, int[])}.
+   *
+   * @param value Azam Codec encoded string
+   * @param off Offset of first character to decode
+   * @param len Number of characters to decode
+   * @param dst Output int array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeInts(CharSequence value, int off, int len, int[] dst, DecodeMode mode)
+      throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return check(
+        decodeSections(value, off, len, null, dst, 0, MAX_INT_ENCODED_LENGTH, mode.nybbles));
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes `value` starting at `off`
+   * into `dst` as ints, without allocating. If `dst` is null or shorter than the number of
+   * sections, only the sections that fit are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Offset of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output int array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeInts(byte[] value, int off, int len, int[] dst)
+      throws ParseException {
+    return azamDecodeInts(value, off, len, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes `value` starting at `off`
+   * into `dst` as ints, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeInts(byte[], int, int, int[])}.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Offset of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output int array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeInts(byte[] value, int off, int len, int[] dst, DecodeMode mode)
+      throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return check(
+        decodeSections(value, off, len, null, dst, 0, MAX_INT_ENCODED_LENGTH, mode.nybbles));
   }
 
   /**
@@ -567,41 +1130,1234 @@ public class AzamCodec {
    * @throws ParseException On invalid Azam Codec characters and/or character orders
    */
   public static long[] azamDecodeLongs(String value) throws ParseException {
+    return azamDecodeLongs(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` as long array, accepting symbols as
+   * specified by `mode`.
+   * 
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as long array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static long[] azamDecodeLongs(String value, DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    long[] values = new long[countSections(value, 0, value.length(), mode.nybbles)];
+    azamDecodeLongs(value, 0, value.length(), values, mode);
+    return values;
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` into `dst` as longs, without
+   * allocating. If `dst` is null or shorter than the number of sections, only the sections that fit
+   * are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output long array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamDecodeLongs(CharSequence value, long[] dst) throws ParseException {
+    return azamDecodeLongs(value, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of an Azam Codec encoded string `value` into `dst` as longs, accepting
+   * symbols as specified by `mode`. See {@link #azamDecodeLongs(CharSequence, long[])}.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output long array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamDecodeLongs(CharSequence value, long[] dst, DecodeMode mode)
+      throws ParseException {
     if (value == null)
       throw new IllegalArgumentException("Argument is null");
-    try (InputStream input = new ByteArrayInputStream(value.getBytes())) {
-      long[] values = new long[0];
-      for (int i = 0;; i++) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-          azamDecodeStreamSection(input, output);
-          byte[] bytes = output.toByteArray();
-
-          // BigEndian byte array to int
-          if (bytes == null || bytes.length == 0 || bytes.length > Long.BYTES)
-            throw new ParseException("Encoded value is empty or too long to convert to int", -1);
-          long decoded = 0;
-          for (int j = 0; j < bytes.length; j++) {
-            decoded = decoded << 8 | (bytes[j] & 0xff);
-          }
-
-          // Extend return array
-          long[] extended = new long[i + 1];
-          if (values.length > 0) {
-            System.arraycopy(values, 0, extended, 0, values.length);
-          }
-          extended[i] = decoded;
-          values = extended;
-        } catch (EOFException eof) {
-          // azamDecodeStream throws EOFException only on empty streams,
-          // so when we receive this, it should be the last one to ignore
-          break;
+    return azamDecodeLongs(value, 0, value.length(), dst, mode);
+  }
+
+  /**
+   * Decode all sections of `len` characters of Azam Codec encoded string `value` starting at `off`
+   * into `dst` as longs, without allocating. If `dst` is null or shorter than the number of
+   * sections, only the sections that fit are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param off Offset of first character to decode
+   * @param len Number of characters to decode
+   * @param dst Output long array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(CharSequence value, int off, int len, long[] dst)
+      throws ParseException {
+    return azamDecodeLongs(value, off, len, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of `len` characters of Azam Codec encoded string `value` starting at `off`
+   * into `dst` as longs, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeLongs(CharSequence, int, int, long[])}.
+   *
+   * @param value Azam Codec encoded string
+   * @param off Offset of first character to decode
+   * @param len Number of characters to decode
+   * @param dst Output long array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(CharSequence value, int off, int len, long[] dst,
+      DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return check(
+        decodeSections(value, off, len, dst, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes `value` starting at `off`
+   * into `dst` as longs, without allocating. If `dst` is null or shorter than the number of
+   * sections, only the sections that fit are stored, and the whole value is still validated.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Offset of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output long array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(byte[] value, int off, int len, long[] dst)
+      throws ParseException {
+    return azamDecodeLongs(value, off, len, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes `value` starting at `off`
+   * into `dst` as longs, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeLongs(byte[], int, int, long[])}.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Offset of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output long array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(byte[] value, int off, int len, long[] dst, DecodeMode mode)
+      throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return check(
+        decodeSections(value, off, len, dst, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+  }
+
+  /**
+   * Decode a single section of Azam Codec encoded ASCII bytes from remaining bytes of `src` and
+   * write decoded bytes to `dst`. Works on both heap and direct buffers.
+   *
+   * If remaining bytes of `src` do not contain a whole section, i.e. a section is split across
+   * buffer fills, neither buffer is modified and false is returned, so that the caller can compact
+   * `src`, fill it and retry.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @return True if a section is decoded, false if `src` does not contain a whole section
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to position of `src`.
+   */
+  public static boolean azamDecodeSection(ByteBuffer src, ByteBuffer dst) throws ParseException {
+    return azamDecodeSection(src, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode a single section of Azam Codec encoded ASCII bytes from remaining bytes of `src` and
+   * write decoded bytes to `dst`, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeSection(ByteBuffer, ByteBuffer)}.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @param mode Decoding mode
+   * @return True if a section is decoded, false if `src` does not contain a whole section
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to position of `src`.
+   */
+  public static boolean azamDecodeSection(ByteBuffer src, ByteBuffer dst, DecodeMode mode)
+      throws ParseException {
+    if (src == null || dst == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] nybbles = mode.nybbles;
+    int start = src.position();
+    int limit = src.limit();
+
+    // Find the terminating lower nybble symbol, validating on the way
+    long result = sectionEnd(src, start, limit, nybbles);
+    DecodeError error = DecodeError.of(result);
+    if (error == DecodeError.UNTERMINATED)
+      return false;
+    if (error != null)
+      throw error.exception(DecodeError.offset(result) - start);
+    int end = (int) result;
+
+    // Knowing the nybble count up front, decode in a single pass
+    int count = end - start;
+    if (dst.remaining() < (count + 1) >> 1)
+      throw new BufferOverflowException();
+    int i = start;
+    if ((count & 1) == 1)
+      dst.put((byte) (nybbles[src.get(i++) & 0xff] & 0x0f));
+    for (; i < end; i += 2)
+      dst.put((byte) ((nybbles[src.get(i) & 0xff] & 0x0f) << 4
+          | (nybbles[src.get(i + 1) & 0xff] & 0x0f)));
+    ((Buffer) src).position(end);
+    return true;
+  }
+
+  /**
+   * Decode a single section of Azam Codec encoded characters from remaining characters of `src` and
+   * write decoded bytes to `dst`.
+   *
+   * If remaining characters of `src` do not contain a whole section, i.e. a section is split across
+   * buffer fills, neither buffer is modified and false is returned, so that the caller can compact
+   * `src`, fill it and retry.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @return True if a section is decoded, false if `src` does not contain a whole section
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to position of `src`.
+   */
+  public static boolean azamDecodeSection(CharBuffer src, ByteBuffer dst) throws ParseException {
+    return azamDecodeSection(src, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode a single section of Azam Codec encoded characters from remaining characters of `src` and
+   * write decoded bytes to `dst`, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeSection(CharBuffer, ByteBuffer)}.
+   *
+   * @param src Input buffer
+   * @param dst Output buffer
+   * @param mode Decoding mode
+   * @return True if a section is decoded, false if `src` does not contain a whole section
+   * @throws BufferOverflowException If `dst` does not have enough space remaining
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to position of `src`.
+   */
+  public static boolean azamDecodeSection(CharBuffer src, ByteBuffer dst, DecodeMode mode)
+      throws ParseException {
+    if (src == null || dst == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] nybbles = mode.nybbles;
+    int start = src.position();
+    int limit = src.limit();
+
+    // Find the terminating lower nybble symbol, validating on the way. Relative indexes of the
+    // buffer as a CharSequence are relative to its position.
+    long result = sectionEnd(src, 0, limit - start, nybbles);
+    DecodeError error = DecodeError.of(result);
+    if (error == DecodeError.UNTERMINATED)
+      return false;
+    if (error != null)
+      throw error.exception(DecodeError.offset(result));
+    int end = start + (int) result;
+
+    // Knowing the nybble count up front, decode in a single pass
+    int count = end - start;
+    if (dst.remaining() < (count + 1) >> 1)
+      throw new BufferOverflowException();
+    int i = start;
+    if ((count & 1) == 1)
+      dst.put((byte) (nybbles[src.get(i++)] & 0x0f));
+    for (; i < end; i += 2)
+      dst.put((byte) ((nybbles[src.get(i)] & 0x0f) << 4 | (nybbles[src.get(i + 1)] & 0x0f)));
+    ((Buffer) src).position(end);
+    return true;
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes in `value` starting at
+   * absolute index `off` into `dst` as longs, without allocating and without modifying the buffer
+   * position. Works on both heap and direct buffers, e.g. memory mapped files. If `dst` is null or
+   * shorter than the number of sections, only the sections that fit are stored, and the whole value
+   * is still validated.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Absolute index of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output long array, may be null
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(ByteBuffer value, int off, int len, long[] dst)
+      throws ParseException {
+    return azamDecodeLongs(value, off, len, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of `len` bytes of Azam Codec encoded ASCII bytes in `value` starting at
+   * absolute index `off` into `dst` as longs, accepting symbols as specified by `mode`. See
+   * {@link #azamDecodeLongs(ByteBuffer, int, int, long[])}.
+   *
+   * @param value Azam Codec encoded ASCII bytes
+   * @param off Absolute index of first byte to decode
+   * @param len Number of bytes to decode
+   * @param dst Output long array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`
+   * @throws ParseException On invalid Azam Codec characters and/or character orders. Error offset
+   *         is relative to `off`.
+   */
+  public static int azamDecodeLongs(ByteBuffer value, int off, int len, long[] dst, DecodeMode mode)
+      throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (value.hasArray())
+      return check(decodeSections(value.array(), value.arrayOffset() + off, len, dst, null, 0,
+          MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    return check(
+        decodeSections(value, off, len, dst, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+  }
+
+  /**
+   * Check whether `value` is a valid Azam Codec encoded string, without decoding, allocating or
+   * throwing.
+   *
+   * @param value Azam Codec encoded string
+   * @return True if valid
+   */
+  public static boolean azamIsValid(CharSequence value) {
+    return azamIsValid(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Check whether `value` is a valid Azam Codec encoded string, accepting symbols as specified by
+   * `mode`, without decoding, allocating or throwing.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return True if valid
+   */
+  public static boolean azamIsValid(CharSequence value, DecodeMode mode) {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    for (int i = 0, len = value.length(); i < len;) {
+      long end = sectionEnd(value, i, len, mode.nybbles);
+      if (end < 0)
+        return false;
+      i = (int) end;
+    }
+    return true;
+  }
+
+  /**
+   * Decode all sections of Azam Codec encoded string `value` into `dst` as ints, as
+   * {@link #azamDecodeInts(CharSequence, int[])} does, but without throwing on invalid values.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output int array, may be null
+   * @return Number of sections in `value`, or a negative result on invalid Azam Codec characters
+   *         and/or character orders, see {@link DecodeError#of(long)} and
+   *         {@link DecodeError#offset(long)}
+   */
+  public static long azamTryDecodeInts(CharSequence value, int[] dst) {
+    return azamTryDecodeInts(value, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of Azam Codec encoded string `value` into `dst` as ints, as
+   * {@link #azamDecodeInts(CharSequence, int[], DecodeMode)} does, but without throwing on invalid
+   * values.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output int array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`, or a negative result on invalid Azam Codec characters
+   *         and/or character orders, see {@link DecodeError#of(long)} and
+   *         {@link DecodeError#offset(long)}
+   */
+  public static long azamTryDecodeInts(CharSequence value, int[] dst, DecodeMode mode) {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return decodeSections(value, 0, value.length(), null, dst, 0, MAX_INT_ENCODED_LENGTH,
+        mode.nybbles);
+  }
+
+  /**
+   * Decode all sections of Azam Codec encoded string `value` into `dst` as longs, as
+   * {@link #azamDecodeLongs(CharSequence, long[])} does, but without throwing on invalid values.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output long array, may be null
+   * @return Number of sections in `value`, or a negative result on invalid Azam Codec characters
+   *         and/or character orders, see {@link DecodeError#of(long)} and
+   *         {@link DecodeError#offset(long)}
+   */
+  public static long azamTryDecodeLongs(CharSequence value, long[] dst) {
+    return azamTryDecodeLongs(value, dst, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of Azam Codec encoded string `value` into `dst` as longs, as
+   * {@link #azamDecodeLongs(CharSequence, long[], DecodeMode)} does, but without throwing on
+   * invalid values.
+   *
+   * @param value Azam Codec encoded string
+   * @param dst Output long array, may be null
+   * @param mode Decoding mode
+   * @return Number of sections in `value`, or a negative result on invalid Azam Codec characters
+   *         and/or character orders, see {@link DecodeError#of(long)} and
+   *         {@link DecodeError#offset(long)}
+   */
+  public static long azamTryDecodeLongs(CharSequence value, long[] dst, DecodeMode mode) {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return decodeSections(value, 0, value.length(), dst, null, 0, MAX_LONG_ENCODED_LENGTH,
+        mode.nybbles);
+  }
+
+  /**
+   * Count sections of Azam Codec encoded string `value`, validating it without decoding or
+   * allocating.
+   *
+   * @param value Azam Codec encoded string
+   * @return Number of sections
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamSectionCount(CharSequence value) throws ParseException {
+    return azamSectionCount(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Count sections of Azam Codec encoded string `value`, validating it without decoding or
+   * allocating, accepting symbols as specified by `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Number of sections
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int azamSectionCount(CharSequence value, DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    int count = 0;
+    for (int i = 0, len = value.length(); i < len; count++)
+      i = check(sectionEnd(value, i, len, mode.nybbles));
+    return count;
+  }
+
+  /**
+   * Locate section at `index` of Azam Codec encoded string `value`, without decoding or allocating.
+   * Only sections up to `index` are scanned and validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @return Start index in the high 32 bits and end index (exclusive) in the low 32 bits, i.e.
+   *         `(int) (bounds >>> 32)` and `(int) bounds`, or -1 if there is no such section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static long azamSectionBounds(CharSequence value, int index) throws ParseException {
+    return azamSectionBounds(value, index, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Locate section at `index` of Azam Codec encoded string `value`, without decoding or allocating,
+   * accepting symbols as specified by `mode`. Only sections up to `index` are scanned and
+   * validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @param mode Decoding mode
+   * @return Start index in the high 32 bits and end index (exclusive) in the low 32 bits, i.e.
+   *         `(int) (bounds >>> 32)` and `(int) bounds`, or -1 if there is no such section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static long azamSectionBounds(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (index < 0)
+      return -1L;
+    int len = value.length();
+    int start = 0;
+    for (int i = 0; start < len; i++) {
+      int end = check(sectionEnd(value, start, len, mode.nybbles));
+      if (i == index)
+        return (long) start << 32 | end;
+      start = end;
+    }
+    return -1L;
+  }
+
+  /**
+   * Decode only section at `index` of Azam Codec encoded string `value` as int, without allocating.
+   * Only sections up to `index` are scanned and validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @return Decoded section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static int azamDecodeIntSection(CharSequence value, int index) throws ParseException {
+    return azamDecodeIntSection(value, index, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode only section at `index` of Azam Codec encoded string `value` as int, without allocating,
+   * accepting symbols as specified by `mode`. Only sections up to `index` are scanned and
+   * validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @param mode Decoding mode
+   * @return Decoded section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static int azamDecodeIntSection(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    return (int) decodeSection(value, index, MAX_INT_ENCODED_LENGTH, mode);
+  }
+
+  /**
+   * Decode only section at `index` of Azam Codec encoded string `value` as long, without
+   * allocating. Only sections up to `index` are scanned and validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @return Decoded section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static long azamDecodeLongSection(CharSequence value, int index) throws ParseException {
+    return azamDecodeLongSection(value, index, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode only section at `index` of Azam Codec encoded string `value` as long, without
+   * allocating, accepting symbols as specified by `mode`. Only sections up to `index` are scanned
+   * and validated.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @param mode Decoding mode
+   * @return Decoded section
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static long azamDecodeLongSection(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    return decodeSection(value, index, MAX_LONG_ENCODED_LENGTH, mode);
+  }
+
+  private static long decodeSection(CharSequence value, int index, int maxNybbles, DecodeMode mode)
+      throws ParseException {
+    long bounds = existingSectionBounds(value, index, mode);
+    int start = (int) (bounds >>> 32);
+    int end = (int) bounds;
+    if (end - start > maxNybbles)
+      throw DecodeError.TOO_LONG.exception(start + maxNybbles);
+    long decoded = 0L;
+    for (int i = start; i < end; i++)
+      decoded = decoded << 4 | (mode.nybbles[value.charAt(i)] & 0x0f);
+    return decoded;
+  }
+
+  private static long existingSectionBounds(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    long bounds = azamSectionBounds(value, index, mode);
+    if (bounds == -1L)
+      throw new IndexOutOfBoundsException("No section at index " + index);
+    return bounds;
+  }
+
+  /**
+   * Increment the last section of Azam Codec encoded string `value` by one, as an unsigned
+   * Big-Endian number of any length, directly on the encoded characters. The section grows by one
+   * character when all of its nybbles are 0xf. E.g. the next ID after `value` for keyset
+   * pagination.
+   *
+   * @param value Azam Codec encoded string
+   * @return Encoded string with the last section incremented
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If `value` has no sections
+   */
+  public static String azamSuccessor(CharSequence value) throws ParseException {
+    return azamSuccessor(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Increment the last section of Azam Codec encoded string `value` by one, accepting symbols as
+   * specified by `mode`. Changed characters are written as canonical symbols. See
+   * {@link #azamSuccessor(CharSequence)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Encoded string with the last section incremented
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If `value` has no sections
+   */
+  public static String azamSuccessor(CharSequence value, DecodeMode mode) throws ParseException {
+    return stepSection(value, lastSectionBounds(value, mode), mode.nybbles, true);
+  }
+
+  /**
+   * Decrement the last section of Azam Codec encoded string `value` by one, as an unsigned
+   * Big-Endian number of any length, directly on the encoded characters. The section shrinks by one
+   * character when its leading nybble becomes 0. E.g. the previous ID before `value` for keyset
+   * pagination.
+   *
+   * @param value Azam Codec encoded string
+   * @return Encoded string with the last section decremented, or null if the last section is 0
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If `value` has no sections
+   */
+  public static String azamPredecessor(CharSequence value) throws ParseException {
+    return azamPredecessor(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decrement the last section of Azam Codec encoded string `value` by one, accepting symbols as
+   * specified by `mode`. Changed characters are written as canonical symbols. See
+   * {@link #azamPredecessor(CharSequence)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Encoded string with the last section decremented, or null if the last section is 0
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If `value` has no sections
+   */
+  public static String azamPredecessor(CharSequence value, DecodeMode mode) throws ParseException {
+    return stepSection(value, lastSectionBounds(value, mode), mode.nybbles, false);
+  }
+
+  /**
+   * Increment section at `index` of Azam Codec encoded string `value` by one, keeping the other
+   * sections as is. Only sections up to `index` are scanned and validated. See
+   * {@link #azamSuccessor(CharSequence)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @return Encoded string with section at `index` incremented
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static String azamSectionSuccessor(CharSequence value, int index) throws ParseException {
+    return azamSectionSuccessor(value, index, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Increment section at `index` of Azam Codec encoded string `value` by one, accepting symbols as
+   * specified by `mode`. See {@link #azamSectionSuccessor(CharSequence, int)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @param mode Decoding mode
+   * @return Encoded string with section at `index` incremented
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static String azamSectionSuccessor(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    return stepSection(value, existingSectionBounds(value, index, mode), mode.nybbles, true);
+  }
+
+  /**
+   * Decrement section at `index` of Azam Codec encoded string `value` by one, keeping the other
+   * sections as is. Only sections up to `index` are scanned and validated. See
+   * {@link #azamPredecessor(CharSequence)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @return Encoded string with section at `index` decremented, or null if the section is 0
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static String azamSectionPredecessor(CharSequence value, int index) throws ParseException {
+    return azamSectionPredecessor(value, index, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decrement section at `index` of Azam Codec encoded string `value` by one, accepting symbols as
+   * specified by `mode`. See {@link #azamSectionPredecessor(CharSequence, int)}.
+   *
+   * @param value Azam Codec encoded string
+   * @param index Section index
+   * @param mode Decoding mode
+   * @return Encoded string with section at `index` decremented, or null if the section is 0
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public static String azamSectionPredecessor(CharSequence value, int index, DecodeMode mode)
+      throws ParseException {
+    return stepSection(value, existingSectionBounds(value, index, mode), mode.nybbles, false);
+  }
+
+  /**
+   * Bounds of the last section of `value`, as {@link #azamSectionBounds(CharSequence, int)},
+   * validating all sections.
+   */
+  private static long lastSectionBounds(CharSequence value, DecodeMode mode) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    int len = value.length();
+    if (len == 0)
+      throw new IndexOutOfBoundsException("No section in value");
+    long bounds = 0L;
+    for (int start = 0; start < len;) {
+      int end = check(sectionEnd(value, start, len, mode.nybbles));
+      bounds = (long) start << 32 | end;
+      start = end;
+    }
+    return bounds;
+  }
+
+  /// Larger scratch arrays of successors and predecessors are not kept by threads
+  private final static int MAX_RETAINED_STEP_CHARS = 4096;
+
+  /// Scratch characters of successors and predecessors, so that only their result is allocated
+  private final static ThreadLocal<char[]> STEP_CHARS = new ThreadLocal<char[]>() {
+    @Override
+    protected char[] initialValue() {
+      return new char[64];
+    }
+  };
+
+  /**
+   * Increment or decrement validated section at `bounds` of `value` by one, carrying or borrowing
+   * through the higher nybble characters.
+   */
+  private static String stepSection(CharSequence value, long bounds, byte[] nybbles, boolean up) {
+    int start = (int) (bounds >>> 32);
+    int end = (int) bounds;
+    int len = value.length();
+    // The section changes length only from all 0xf nybbles, or from 1 followed by 0 nybbles
+    int edge = up ? 0x0f : 0x00;
+    int i = end - 1;
+    while (i > start && (nybbles[value.charAt(i)] & 0x0f) == edge)
+      i--;
+    int first = nybbles[value.charAt(start)] & 0x0f;
+    char[] chars = STEP_CHARS.get();
+    if (chars.length <= len) {
+      chars = new char[Math.max(len + 1, chars.length * 2)];
+      if (chars.length <= MAX_RETAINED_STEP_CHARS)
+        STEP_CHARS.set(chars);
+    }
+    int pos;
+    if (i == start && first == edge) {
+      if (!up)
+        return null;
+      // All 0xf, grows to 1 followed by 0 nybbles
+      pos = copyChars(value, 0, start, chars, 0);
+      chars[pos++] = (char) HIGHER_ALPHABETS[1];
+      for (int j = start; j < end - 1; j++)
+        chars[pos++] = (char) HIGHER_ALPHABETS[0];
+      chars[pos++] = (char) LOWER_ALPHABETS[0];
+    } else if (i == start && !up && first == 1 && end - start > 1) {
+      // 1 followed by 0 nybbles, shrinks to all 0xf
+      pos = copyChars(value, 0, start, chars, 0);
+      for (int j = start + 1; j < end - 1; j++)
+        chars[pos++] = (char) HIGHER_ALPHABETS[0x0f];
+      chars[pos++] = (char) LOWER_ALPHABETS[0x0f];
+    } else {
+      // Step the nybble at i, and flip the carried or borrowed nybbles after it
+      pos = copyChars(value, 0, i, chars, 0);
+      int nybble = (nybbles[value.charAt(i)] & 0x0f) + (up ? 1 : -1);
+      chars[pos++] = (char) (i == end - 1 ? LOWER_ALPHABETS : HIGHER_ALPHABETS)[nybble];
+      for (int j = i + 1; j < end - 1; j++)
+        chars[pos++] = (char) HIGHER_ALPHABETS[edge ^ 0x0f];
+      if (i < end - 1)
+        chars[pos++] = (char) LOWER_ALPHABETS[edge ^ 0x0f];
+    }
+    pos = copyChars(value, end, len, chars, pos);
+    return new String(chars, 0, pos);
+  }
+
+  private static int copyChars(CharSequence value, int start, int end, char[] dst, int pos) {
+    for (int j = start; j < end; j++)
+      dst[pos++] = value.charAt(j);
+    return pos;
+  }
+
+  /**
+   * Compare Azam Codec encoded strings `a` and `b` section by section, as if comparing their
+   * decoded sections as unsigned Big-Endian numbers, without decoding. A section with more nybbles
+   * is larger, and a string that is a prefix of the other in sections is smaller. For canonical
+   * strings whose sections have equal lengths, this is the same order as
+   * {@link String#compareTo(String)}. Uppercase symbols and aliases are compared as the symbols
+   * they stand for.
+   *
+   * @param a Azam Codec encoded string
+   * @param b Azam Codec encoded string
+   * @return Negative, zero or positive as `a` is less than, equal to, or greater than `b`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompare(CharSequence a, CharSequence b) {
+    return azamCompare(a, b, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Compare Azam Codec encoded strings `a` and `b` as
+   * {@link #azamCompare(CharSequence, CharSequence)} does, accepting symbols as specified by
+   * `mode`.
+   *
+   * @param a Azam Codec encoded string
+   * @param b Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Negative, zero or positive as `a` is less than, equal to, or greater than `b`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompare(CharSequence a, CharSequence b, DecodeMode mode) {
+    if (mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return mode.comparator.compare(a, b);
+  }
+
+  /**
+   * Compare Azam Codec encoded ASCII bytes `a` and `b` as
+   * {@link #azamCompare(CharSequence, CharSequence)} does.
+   *
+   * @param a Azam Codec encoded ASCII bytes
+   * @param b Azam Codec encoded ASCII bytes
+   * @return Negative, zero or positive as `a` is less than, equal to, or greater than `b`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompare(byte[] a, byte[] b) {
+    return azamCompare(a, b, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Compare Azam Codec encoded ASCII bytes `a` and `b` as
+   * {@link #azamCompare(CharSequence, CharSequence)} does, accepting symbols as specified by
+   * `mode`.
+   *
+   * @param a Azam Codec encoded ASCII bytes
+   * @param b Azam Codec encoded ASCII bytes
+   * @param mode Decoding mode
+   * @return Negative, zero or positive as `a` is less than, equal to, or greater than `b`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompare(byte[] a, byte[] b, DecodeMode mode) {
+    if (mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return mode.bytesComparator.compare(a, b);
+  }
+
+  /**
+   * Comparator of Azam Codec encoded strings, see {@link #azamCompare(CharSequence, CharSequence)}.
+   * The comparator is thread safe and does not allocate.
+   *
+   * @return Comparator of Azam Codec encoded strings
+   */
+  public static Comparator<CharSequence> azamComparator() {
+    return DecodeMode.LENIENT.comparator;
+  }
+
+  /**
+   * Comparator of Azam Codec encoded strings accepting symbols as specified by `mode`, see
+   * {@link #azamCompare(CharSequence, CharSequence)}. The comparator is thread safe and does not
+   * allocate.
+   *
+   * @param mode Decoding mode
+   * @return Comparator of Azam Codec encoded strings
+   */
+  public static Comparator<CharSequence> azamComparator(DecodeMode mode) {
+    if (mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return mode.comparator;
+  }
+
+  /**
+   * Comparator of Azam Codec encoded ASCII bytes, see
+   * {@link #azamCompare(CharSequence, CharSequence)}. The comparator is thread safe and does not
+   * allocate.
+   *
+   * @return Comparator of Azam Codec encoded ASCII bytes
+   */
+  public static Comparator<byte[]> azamBytesComparator() {
+    return DecodeMode.LENIENT.bytesComparator;
+  }
+
+  /**
+   * Comparator of Azam Codec encoded ASCII bytes accepting symbols as specified by `mode`, see
+   * {@link #azamCompare(CharSequence, CharSequence)}. The comparator is thread safe and does not
+   * allocate.
+   *
+   * @param mode Decoding mode
+   * @return Comparator of Azam Codec encoded ASCII bytes
+   */
+  public static Comparator<byte[]> azamBytesComparator(DecodeMode mode) {
+    if (mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    return mode.bytesComparator;
+  }
+
+  /**
+   * Compare Azam Codec encoded string `value` with the string `sections` would encode to, as
+   * {@link #azamCompare(CharSequence, CharSequence)} does, without decoding `value` or encoding
+   * `sections`.
+   *
+   * @param value Azam Codec encoded string
+   * @param sections Numbers, compared as unsigned
+   * @return Negative, zero or positive as `value` is less than, equal to, or greater than
+   *         `sections`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompareToLongs(CharSequence value, long... sections) {
+    if (value == null || sections == null)
+      throw new IllegalArgumentException("Argument is null");
+    return azamCompareToLongs(value, DecodeMode.LENIENT, sections);
+  }
+
+  /**
+   * Compare Azam Codec encoded string `value` with the string `sections` would encode to as
+   * {@link #azamCompareToLongs(CharSequence, long...)} does, accepting symbols as specified by
+   * `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @param sections Numbers, compared as unsigned
+   * @return Negative, zero or positive as `value` is less than, equal to, or greater than
+   *         `sections`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompareToLongs(CharSequence value, DecodeMode mode, long... sections) {
+    if (value == null || mode == null || sections == null)
+      throw new IllegalArgumentException("Argument is null");
+    return compareToNumbers(value, sections, null, mode.nybbles);
+  }
+
+  /**
+   * Compare Azam Codec encoded string `value` with the string `sections` would encode to, as
+   * {@link #azamCompare(CharSequence, CharSequence)} does, without decoding `value` or encoding
+   * `sections`.
+   *
+   * @param value Azam Codec encoded string
+   * @param sections Numbers, compared as unsigned
+   * @return Negative, zero or positive as `value` is less than, equal to, or greater than
+   *         `sections`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompareToInts(CharSequence value, int... sections) {
+    if (value == null || sections == null)
+      throw new IllegalArgumentException("Argument is null");
+    return azamCompareToInts(value, DecodeMode.LENIENT, sections);
+  }
+
+  /**
+   * Compare Azam Codec encoded string `value` with the string `sections` would encode to as
+   * {@link #azamCompareToInts(CharSequence, int...)} does, accepting symbols as specified by
+   * `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @param sections Numbers, compared as unsigned
+   * @return Negative, zero or positive as `value` is less than, equal to, or greater than
+   *         `sections`
+   * @throws IllegalArgumentException On invalid Azam Codec characters and/or character orders,
+   *         caused by a {@link ParseException}
+   */
+  public static int azamCompareToInts(CharSequence value, DecodeMode mode, int... sections) {
+    if (value == null || mode == null || sections == null)
+      throw new IllegalArgumentException("Argument is null");
+    return compareToNumbers(value, null, sections, mode.nybbles);
+  }
+
+  private static int compareToNumbers(CharSequence value, long[] longs, int[] ints,
+      byte[] nybbles) {
+    int count = longs != null ? longs.length : ints.length;
+    int len = value.length();
+    int pos = 0;
+    for (int k = 0;; k++) {
+      if (pos == len)
+        return k == count ? 0 : -1;
+      if (k == count)
+        return 1;
+      long number = longs != null ? longs[k] : ints[k] & 0xffffffffL;
+      int end = checkArgument(sectionEnd(value, pos, len, nybbles));
+      int length = encodedLength(number);
+      if (end - pos != length)
+        return end - pos < length ? -1 : 1;
+      for (int shift = (length - 1) * 4; pos < end; pos++, shift -= 4) {
+        int x = nybbles[value.charAt(pos)] & 0x0f;
+        int y = (int) (number >>> shift) & 0x0f;
+        if (x != y)
+          return x < y ? -1 : 1;
+      }
+    }
+  }
+
+  /**
+   * Find the end of the section of `value` starting at `start`, validating it.
+   *
+   * @return Index after the terminating lower nybble character, or a negative {@link DecodeError}
+   *         result on invalid section, or if no section terminates before `end`
+   */
+  static long sectionEnd(CharSequence value, int start, int end, byte[] nybbles) {
+    for (int i = start; i < end; i++) {
+      byte nybble = getNybbleValue(nybbles, value.charAt(i));
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i);
+      if (i == start && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i);
+      if (nybble >> 4 == 0x00)
+        return i + 1;
+    }
+    return DecodeError.UNTERMINATED.at(end);
+  }
+
+  /**
+   * Byte array version of {@link #sectionEnd(CharSequence, int, int, byte[])}.
+   */
+  static long sectionEnd(byte[] value, int start, int end, byte[] nybbles) {
+    return sectionEnd(value, start, start, end, nybbles);
+  }
+
+  /**
+   * Resume {@link #sectionEnd(byte[], int, int, byte[])} of the section starting at `start` from
+   * `from`, as `value[start..from)` are already validated higher nybble characters. E.g. for
+   * buffers refilled in the middle of a section.
+   */
+  static long sectionEnd(byte[] value, int start, int from, int end, byte[] nybbles) {
+    for (int i = from; i < end; i++) {
+      byte nybble = nybbles[value[i] & 0xff];
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i);
+      if (i == start && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i);
+      if (nybble >> 4 == 0x00)
+        return i + 1;
+    }
+    return DecodeError.UNTERMINATED.at(end);
+  }
+
+  /**
+   * Buffer version of {@link #sectionEnd(CharSequence, int, int, byte[])}, using absolute indexes.
+   */
+  static long sectionEnd(ByteBuffer value, int start, int end, byte[] nybbles) {
+    for (int i = start; i < end; i++) {
+      byte nybble = nybbles[value.get(i) & 0xff];
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i);
+      if (i == start && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i);
+      if (nybble >> 4 == 0x00)
+        return i + 1;
+    }
+    return DecodeError.UNTERMINATED.at(end);
+  }
+
+  static final class CharSequenceComparator implements Comparator<CharSequence> {
+    private final byte[] nybbles;
+
+    CharSequenceComparator(byte[] nybbles) {
+      this.nybbles = nybbles;
+    }
+
+    @Override
+    public int compare(CharSequence a, CharSequence b) {
+      if (a == null || b == null)
+        throw new IllegalArgumentException("Argument is null");
+      int lenA = a.length();
+      int lenB = b.length();
+      int i = 0;
+      int j = 0;
+      for (;;) {
+        if (i == lenA)
+          return j == lenB ? 0 : -1;
+        if (j == lenB)
+          return 1;
+        int endA = checkArgument(sectionEnd(a, i, lenA, this.nybbles));
+        int endB = checkArgument(sectionEnd(b, j, lenB, this.nybbles));
+        if (endA - i != endB - j)
+          return endA - i < endB - j ? -1 : 1;
+        for (; i < endA; i++, j++) {
+          int x = this.nybbles[a.charAt(i)] & 0x0f;
+          int y = this.nybbles[b.charAt(j)] & 0x0f;
+          if (x != y)
+            return x < y ? -1 : 1;
         }
       }
-      return values;
-    } catch (IOException io) {
-      // We should not get here because we are only using byte array streams,
-      // unless there are severe memory IO errors
-      throw new ParseException("Unexpected IO Exception: " + io.getMessage(), -1);
+    }
+  }
+
+  static final class BytesComparator implements Comparator<byte[]> {
+    private final byte[] nybbles;
+
+    BytesComparator(byte[] nybbles) {
+      this.nybbles = nybbles;
+    }
+
+    @Override
+    public int compare(byte[] a, byte[] b) {
+      if (a == null || b == null)
+        throw new IllegalArgumentException("Argument is null");
+      int i = 0;
+      int j = 0;
+      for (;;) {
+        if (i == a.length)
+          return j == b.length ? 0 : -1;
+        if (j == b.length)
+          return 1;
+        int endA = checkArgument(sectionEnd(a, i, a.length, this.nybbles));
+        int endB = checkArgument(sectionEnd(b, j, b.length, this.nybbles));
+        if (endA - i != endB - j)
+          return endA - i < endB - j ? -1 : 1;
+        for (; i < endA; i++, j++) {
+          int x = this.nybbles[a[i] & 0xff] & 0x0f;
+          int y = this.nybbles[b[j] & 0xff] & 0x0f;
+          if (x != y)
+            return x < y ? -1 : 1;
+        }
+      }
+    }
+  }
+
+  /**
+   * Count sections by counting lower nybble characters. Does not validate.
+   */
+  static int countSections(CharSequence value, int off, int len, byte[] nybbles) {
+    int count = 0;
+    for (int i = off, end = off + len; i < end; i++) {
+      if ((getNybbleValue(nybbles, value.charAt(i)) & 0xff) >> 4 == 0x00)
+        count++;
+    }
+    return count;
+  }
+
+  /**
+   * Buffer version of {@link #countSections(CharSequence, int, int, byte[])}, using absolute
+   * indexes.
+   */
+  static int countSections(ByteBuffer value, int off, int len, byte[] nybbles) {
+    int count = 0;
+    for (int i = off, end = off + len; i < end; i++) {
+      if ((nybbles[value.get(i) & 0xff] & 0xff) >> 4 == 0x00)
+        count++;
+    }
+    return count;
+  }
+
+  /**
+   * Decode sections of `value` into either `longs` or `ints` starting at `dstOff`, accumulating
+   * each section in a register. Sections longer than `maxNybbles` nybbles are rejected. Symbols are
+   * looked up in `nybbles` table of a {@link DecodeMode}.
+   *
+   * @return Number of sections, or a negative {@link DecodeError} result with offset relative to
+   *         `off`
+   */
+  static long decodeSections(CharSequence value, int off, int len, long[] longs, int[] ints,
+      int dstOff, int maxNybbles, byte[] nybbles) {
+    int count = 0;
+    int length = 0;
+    long decoded = 0L;
+    for (int i = off, end = off + len; i < end; i++) {
+      byte nybble = getNybbleValue(nybbles, value.charAt(i));
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i - off);
+      if (length == 0 && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i - off);
+      if (++length > maxNybbles)
+        return DecodeError.TOO_LONG.at(i - off);
+      decoded = decoded << 4 | (nybble & 0x0f);
+      if (nybble >> 4 == 0x00) {
+        storeSection(longs, ints, dstOff + count++, decoded);
+        length = 0;
+        decoded = 0L;
+      }
+    }
+    if (length > 0)
+      return DecodeError.UNTERMINATED.at(len);
+    return count;
+  }
+
+  /**
+   * Byte array version of
+   * {@link #decodeSections(CharSequence, int, int, long[], int[], int, int, byte[])}.
+   */
+  static long decodeSections(byte[] value, int off, int len, long[] longs, int[] ints, int dstOff,
+      int maxNybbles, byte[] nybbles) {
+    int count = 0;
+    int length = 0;
+    long decoded = 0L;
+    for (int i = off, end = off + len; i < end; i++) {
+      byte nybble = nybbles[value[i] & 0xff];
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i - off);
+      if (length == 0 && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i - off);
+      if (++length > maxNybbles)
+        return DecodeError.TOO_LONG.at(i - off);
+      decoded = decoded << 4 | (nybble & 0x0f);
+      if (nybble >> 4 == 0x00) {
+        storeSection(longs, ints, dstOff + count++, decoded);
+        length = 0;
+        decoded = 0L;
+      }
+    }
+    if (length > 0)
+      return DecodeError.UNTERMINATED.at(len);
+    return count;
+  }
+
+  /**
+   * Buffer version of
+   * {@link #decodeSections(CharSequence, int, int, long[], int[], int, int, byte[])}, using
+   * absolute indexes.
+   */
+  static long decodeSections(ByteBuffer value, int off, int len, long[] longs, int[] ints,
+      int dstOff, int maxNybbles, byte[] nybbles) {
+    int count = 0;
+    int length = 0;
+    long decoded = 0L;
+    for (int i = off, end = off + len; i < end; i++) {
+      byte nybble = nybbles[value.get(i) & 0xff];
+      if (nybble == (byte) 0xff)
+        return DecodeError.UNKNOWN_CHAR.at(i - off);
+      if (length == 0 && nybble == (byte) 0x10)
+        return DecodeError.LEADING_G.at(i - off);
+      if (++length > maxNybbles)
+        return DecodeError.TOO_LONG.at(i - off);
+      decoded = decoded << 4 | (nybble & 0x0f);
+      if (nybble >> 4 == 0x00) {
+        storeSection(longs, ints, dstOff + count++, decoded);
+        length = 0;
+        decoded = 0L;
+      }
+    }
+    if (length > 0)
+      return DecodeError.UNTERMINATED.at(len);
+    return count;
+  }
+
+  private static void storeSection(long[] longs, int[] ints, int index, long decoded) {
+    if (longs != null) {
+      if (index < longs.length)
+        longs[index] = decoded;
+    } else if (ints != null) {
+      if (index < ints.length)
+        ints[index] = (int) decoded;
     }
   }
 }
@@ -0,0 +1,213 @@
+package io.azam.azamcodec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+
+import io.azam.azamcodec.AzamCodec.DecodeError;
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Input stream that reads Azam Codec encoded characters as ASCII bytes from the underlying stream
+ * and returns decoded bytes, one section at a time.
+ *
+ * The stream is positioned before the first section on creation. {@link #nextSection()} advances to
+ * the next section, after which {@link #read()} returns decoded bytes of that section, and -1 at
+ * the end of the section. Encoded characters are read from the underlying stream in batches into an
+ * internal buffer, which grows if a single section does not fit.
+ *
+ * This class is not thread safe.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamDecoderInputStream extends FilterInputStream {
+  private final byte[] nybbles;
+  private byte[] buf;
+  /// Buffered encoded characters are buf[pos..limit)
+  private int pos = 0;
+  private int limit = 0;
+  /// Undecoded part of current section is buf[pos..sectionEnd), pos is sectionEnd between sections
+  private int sectionEnd = 0;
+  private boolean eof = false;
+  private boolean closed = false;
+
+  /**
+   * Create a lenient decoder stream with default buffer size.
+   *
+   * @param in Underlying input stream
+   */
+  public AzamDecoderInputStream(InputStream in) {
+    this(in, DecodeMode.LENIENT, AzamEncoderOutputStream.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a decoder stream with `size` bytes initial buffer, accepting symbols as specified by
+   * `mode`.
+   *
+   * @param in Underlying input stream
+   * @param mode Decoding mode
+   * @param size Initial buffer size
+   */
+  public AzamDecoderInputStream(InputStream in, DecodeMode mode, int size) {
+    super(in);
+    if (in == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (size <= 0)
+      throw new IllegalArgumentException("Buffer size is too small");
+    this.nybbles = mode.nybbles;
+    this.buf = new byte[size];
+  }
+
+  /**
+   * Skip the rest of the current section and advance to the next section, reading and validating
+   * the whole section from the underlying stream.
+   *
+   * @return True if advanced to the next section, false on end of stream
+   * @throws IOException On IO errors of underlying stream
+   * @throws ParseException On invalid Azam Codec characters and/or character orders, including end
+   *         of stream in the middle of a section
+   */
+  public boolean nextSection() throws IOException, ParseException {
+    ensureOpen();
+    this.pos = this.sectionEnd;
+    int i = this.pos;
+    for (;;) {
+      // Scan buffered characters, resuming after the ones already scanned
+      long result = AzamCodec.sectionEnd(this.buf, this.pos, i, this.limit, this.nybbles);
+      DecodeError error = DecodeError.of(result);
+      if (error == null) {
+        this.sectionEnd = (int) result;
+        return true;
+      }
+      if (error != DecodeError.UNTERMINATED)
+        throw error.exception(DecodeError.offset(result) - this.pos);
+      i = this.limit - this.pos;
+      if (!fill()) {
+        if (i == 0)
+          return false;
+        throw DecodeError.UNTERMINATED.exception(i);
+      }
+      i += this.pos;
+    }
+  }
+
+  /**
+   * Read a decoded byte of the current section.
+   *
+   * @return Decoded byte, or -1 at the end of the current section
+   */
+  @Override
+  public int read() throws IOException {
+    ensureOpen();
+    int remaining = this.sectionEnd - this.pos;
+    if (remaining == 0)
+      return -1;
+    // On odd nybble count, the first byte only has a low nybble
+    if ((remaining & 1) == 1)
+      return this.nybbles[this.buf[this.pos++] & 0xff] & 0x0f;
+    int b = (this.nybbles[this.buf[this.pos] & 0xff] & 0x0f) << 4
+        | (this.nybbles[this.buf[this.pos + 1] & 0xff] & 0x0f);
+    this.pos += 2;
+    return b;
+  }
+
+  /**
+   * Read decoded bytes of the current section.
+   *
+   * @return Number of bytes read, or -1 at the end of the current section
+   */
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (b == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (off < 0 || len < 0 || off + len > b.length)
+      throw new IndexOutOfBoundsException();
+    ensureOpen();
+    if (len == 0)
+      return 0;
+    if (this.sectionEnd == this.pos)
+      return -1;
+    int n = 0;
+    while (n < len && this.pos < this.sectionEnd)
+      b[off + n++] = (byte) read();
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && read() != -1)
+      skipped++;
+    return skipped;
+  }
+
+  /**
+   * Number of decoded bytes remaining in the current section.
+   */
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    return (this.sectionEnd - this.pos + 1) >> 1;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {}
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.closed)
+      return;
+    this.closed = true;
+    this.in.close();
+  }
+
+  /**
+   * Read more encoded characters from the underlying stream, compacting or growing the buffer as
+   * needed. Characters from `pos` are retained.
+   *
+   * @return False on end of stream
+   */
+  private boolean fill() throws IOException {
+    if (this.eof)
+      return false;
+    if (this.pos > 0) {
+      System.arraycopy(this.buf, this.pos, this.buf, 0, this.limit - this.pos);
+      this.limit -= this.pos;
+      this.sectionEnd -= this.pos;
+      this.pos = 0;
+    }
+    if (this.limit == this.buf.length) {
+      byte[] grown = new byte[this.buf.length * 2];
+      System.arraycopy(this.buf, 0, grown, 0, this.limit);
+      this.buf = grown;
+    }
+    for (;;) {
+      int n = this.in.read(this.buf, this.limit, this.buf.length - this.limit);
+      if (n == -1) {
+        this.eof = true;
+        return false;
+      }
+      if (n > 0) {
+        this.limit += n;
+        return true;
+      }
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (this.closed)
+      throw new IOException("Stream is closed");
+  }
+}
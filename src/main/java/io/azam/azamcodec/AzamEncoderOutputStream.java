@@ -0,0 +1,208 @@
+package io.azam.azamcodec;
+
+import static io.azam.azamcodec.AzamCodec.HIGHER_ALPHABETS;
+import static io.azam.azamcodec.AzamCodec.LOWER_ALPHABETS;
+import static io.azam.azamcodec.AzamCodec.MAX_LONG_ENCODED_LENGTH;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream that encodes written bytes as Azam Codec encoded sections and writes the encoded
+ * characters as ASCII bytes to the underlying stream.
+ *
+ * Bytes written are accumulated into the current section until {@link #endSection()} is called.
+ * Encoded characters are buffered internally and written to the underlying stream in batches, when
+ * the buffer is full, on {@link #flush()} or on {@link #close()}. Closing this stream ends the
+ * current section.
+ *
+ * This class is not thread safe.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamEncoderOutputStream extends FilterOutputStream {
+  final static int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final byte[] buf;
+  private int count = 0;
+
+  /// Last written byte of the current section, held back until we know whether it is the last one
+  private int pending = -1;
+  /// True until a nybble of the current section is written, to skip leading zero nybbles
+  private boolean leading = true;
+  private boolean closed = false;
+
+  /**
+   * Create an encoder stream with default buffer size.
+   *
+   * @param out Underlying output stream
+   */
+  public AzamEncoderOutputStream(OutputStream out) {
+    this(out, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create an encoder stream with `size` bytes buffer.
+   *
+   * @param out Underlying output stream
+   * @param size Buffer size, at least {@link AzamCodec#MAX_LONG_ENCODED_LENGTH}
+   */
+  public AzamEncoderOutputStream(OutputStream out, int size) {
+    super(out);
+    if (out == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (size < MAX_LONG_ENCODED_LENGTH)
+      throw new IllegalArgumentException("Buffer size is too small");
+    this.buf = new byte[size];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    if (this.pending >= 0)
+      writeHigher(this.pending);
+    this.pending = b & 0xff;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (b == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (off < 0 || len < 0 || off + len > b.length)
+      throw new IndexOutOfBoundsException();
+    ensureOpen();
+    int i = off;
+    int end = off + len;
+    // Skip leading zero nybbles a byte at a time
+    for (; i < end && (this.leading || this.pending < 0); i++) {
+      if (this.pending >= 0)
+        writeHigher(this.pending);
+      this.pending = b[i] & 0xff;
+    }
+    if (i == end)
+      return;
+    // All but the last byte are middle bytes, encoded in bulk
+    writeHigher(this.pending);
+    int last = end - 1;
+    while (i < last) {
+      if (this.count + 2 > this.buf.length)
+        flushBuffer();
+      int n = Math.min(last - i, (this.buf.length - this.count) >> 1);
+      this.count = AzamKernel.encodeHigher(b, i, n, this.buf, this.count);
+      i += n;
+    }
+    this.pending = b[last] & 0xff;
+  }
+
+  /**
+   * Encode `value` as a whole section, based on the number's byte representation in Big-Endian.
+   *
+   * @param value Input number
+   * @throws IOException On IO errors of underlying stream
+   * @throws IllegalStateException If there are bytes written to the current section
+   */
+  public void writeInt(int value) throws IOException {
+    writeLong(value & 0xffffffffL);
+  }
+
+  /**
+   * Encode `value` as a whole section, based on the number's byte representation in Big-Endian.
+   *
+   * @param value Input number
+   * @throws IOException On IO errors of underlying stream
+   * @throws IllegalStateException If there are bytes written to the current section
+   */
+  public void writeLong(long value) throws IOException {
+    ensureOpen();
+    if (this.pending >= 0)
+      throw new IllegalStateException("Section is in progress");
+    if (this.count + MAX_LONG_ENCODED_LENGTH > this.buf.length)
+      flushBuffer();
+    this.count = AzamCodec.encodeLongPadded(value, this.buf, this.count);
+  }
+
+  /**
+   * End the current section, writing its terminating lower nybble character. Does nothing if no
+   * bytes are written to the current section.
+   *
+   * @throws IOException On IO errors of underlying stream
+   */
+  public void endSection() throws IOException {
+    ensureOpen();
+    int b = this.pending;
+    if (b < 0)
+      return;
+    if (this.count + 2 > this.buf.length)
+      flushBuffer();
+    if (!this.leading || b >> 4 > 0)
+      this.buf[this.count++] = (byte) HIGHER_ALPHABETS[b >> 4];
+    this.buf[this.count++] = (byte) LOWER_ALPHABETS[b & 0x0f];
+    this.pending = -1;
+    this.leading = true;
+  }
+
+  /**
+   * Write buffered encoded characters to the underlying stream and flush it. Does not end the
+   * current section.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    flushBuffer();
+    this.out.flush();
+  }
+
+  /**
+   * End the current section, write buffered encoded characters and close the underlying stream.
+   */
+  @Override
+  public void close() throws IOException {
+    if (this.closed)
+      return;
+    try {
+      endSection();
+      flushBuffer();
+    } finally {
+      this.closed = true;
+      this.out.close();
+    }
+  }
+
+  /**
+   * Write buffered encoded characters to the underlying stream, without flushing it.
+   */
+  void flushBuffer() throws IOException {
+    if (this.count > 0) {
+      this.out.write(this.buf, 0, this.count);
+      this.count = 0;
+    }
+  }
+
+  /**
+   * Write a byte that is not the last one of the current section, skipping leading zero nybbles.
+   */
+  private void writeHigher(int b) throws IOException {
+    if (this.leading) {
+      if (b == 0)
+        return;
+      this.leading = false;
+      if (b >> 4 == 0) {
+        if (this.count + 1 > this.buf.length)
+          flushBuffer();
+        this.buf[this.count++] = (byte) HIGHER_ALPHABETS[b];
+        return;
+      }
+    }
+    if (this.count + 2 > this.buf.length)
+      flushBuffer();
+    this.buf[this.count++] = (byte) HIGHER_ALPHABETS[b >> 4];
+    this.buf[this.count++] = (byte) HIGHER_ALPHABETS[b & 0x0f];
+  }
+
+  private void ensureOpen() throws IOException {
+    if (this.closed)
+      throw new IOException("Stream is closed");
+  }
+}
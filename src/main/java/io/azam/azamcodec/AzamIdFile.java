@@ -0,0 +1,274 @@
+package io.azam.azamcodec;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Memory mapped file of newline delimited Azam Codec encoded IDs, for bulk reading and writing.
+ *
+ * The file is mapped with {@link FileChannel#map} in chunks ending on line boundaries, and IDs are
+ * decoded straight from the mapped buffers into long arrays. {@link #spliterator()} splits on line
+ * boundaries, so IDs can be decoded in parallel with
+ * {@code StreamSupport.stream(file.spliterator(), true)}. Lines may end with either LF or CRLF.
+ *
+ * Instances are immutable. Requires Java 8 runtime.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamIdFile {
+  /// Largest mapped chunk, as a single mapping is limited to Integer.MAX_VALUE bytes
+  final static int MAX_CHUNK_SIZE = 1 << 30;
+
+  private final ByteBuffer[] chunks;
+  private final DecodeMode mode;
+  private final long size;
+
+  private AzamIdFile(ByteBuffer[] chunks, DecodeMode mode, long size) {
+    this.chunks = chunks;
+    this.mode = mode;
+    this.size = size;
+  }
+
+  /**
+   * Map file at `path` read only, decoding leniently.
+   *
+   * @param path File path
+   * @return Mapped file
+   * @throws IOException On IO errors, or on a line longer than the maximum chunk size
+   */
+  public static AzamIdFile map(Path path) throws IOException {
+    return map(path, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Map file at `path` read only, accepting symbols as specified by `mode`.
+   *
+   * @param path File path
+   * @param mode Decoding mode
+   * @return Mapped file
+   * @throws IOException On IO errors, or on a line longer than the maximum chunk size
+   */
+  public static AzamIdFile map(Path path, DecodeMode mode) throws IOException {
+    return map(path, mode, MAX_CHUNK_SIZE);
+  }
+
+  static AzamIdFile map(Path path, DecodeMode mode, int chunkSize) throws IOException {
+    if (path == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+    long size;
+    // Mappings stay valid after the channel is closed
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      size = channel.size();
+      long start = 0;
+      while (start < size) {
+        long length = Math.min(chunkSize, size - start);
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        int limit = (int) length;
+        if (start + length < size) {
+          // End the chunk after its last line feed
+          while (limit > 0 && chunk.get(limit - 1) != '\n')
+            limit--;
+          if (limit == 0)
+            throw new IOException("Line is longer than " + chunkSize + " bytes at " + start);
+          ((Buffer) chunk).limit(limit);
+        }
+        chunks.add(chunk);
+        start += limit;
+      }
+    }
+    return new AzamIdFile(chunks.toArray(new ByteBuffer[chunks.size()]), mode, size);
+  }
+
+  /**
+   * Size of mapped file in bytes.
+   *
+   * @return Size in bytes
+   */
+  public long size() {
+    return this.size;
+  }
+
+  /**
+   * Spliterator of IDs in the file, each decoded as a long array of its sections. Splits land on
+   * line boundaries. An invalid ID is reported as {@link IllegalArgumentException} caused by a
+   * {@link ParseException}.
+   *
+   * @return Spliterator of decoded IDs
+   */
+  public Spliterator<long[]> spliterator() {
+    int last = this.chunks.length - 1;
+    return new IdSpliterator(this.chunks, this.mode.nybbles, 0, this.chunks.length, 0,
+        last < 0 ? 0 : this.chunks[last].limit());
+  }
+
+  /**
+   * Write `ids` to file at `path` as newline delimited Azam Codec encoded IDs, encoding each long
+   * array as an ID of long sections. The file is created or truncated, and written through memory
+   * mapped chunks.
+   *
+   * @param path File path
+   * @param ids IDs to write
+   * @throws IOException On IO errors
+   */
+  public static void write(Path path, long[][] ids) throws IOException {
+    write(path, ids, MAX_CHUNK_SIZE);
+  }
+
+  static void write(Path path, long[][] ids, int chunkSize) throws IOException {
+    if (path == null || ids == null)
+      throw new IllegalArgumentException("Argument is null");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long position = 0;
+      int i = 0;
+      while (i < ids.length) {
+        // Take as many whole lines as fit in a chunk
+        int j = i;
+        long length = 0;
+        while (j < ids.length) {
+          long line = lineLength(ids[j]);
+          if (length + line > chunkSize) {
+            if (j == i)
+              throw new IOException("Line is longer than " + chunkSize + " bytes");
+            break;
+          }
+          length += line;
+          j++;
+        }
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        for (; i < j; i++) {
+          for (long value : ids[i])
+            AzamCodec.azamEncodeLong(value, chunk);
+          chunk.put((byte) '\n');
+        }
+        chunk.force();
+        position += length;
+      }
+    }
+  }
+
+  private static long lineLength(long[] id) {
+    if (id == null)
+      throw new IllegalArgumentException("Value contains null value");
+    long length = 1;
+    for (long value : id)
+      length += AzamCodec.encodedLength(value);
+    return length;
+  }
+
+  /**
+   * Spliterator over lines of chunks[lo..hi), starting at `origin` of chunk `lo` and ending at
+   * `fence` of chunk `hi - 1`.
+   */
+  static class IdSpliterator implements Spliterator<long[]> {
+    private final ByteBuffer[] chunks;
+    private final byte[] nybbles;
+    private int lo;
+    private final int hi;
+    private int origin;
+    private int fence;
+
+    IdSpliterator(ByteBuffer[] chunks, byte[] nybbles, int lo, int hi, int origin, int fence) {
+      this.chunks = chunks;
+      this.nybbles = nybbles;
+      this.lo = lo;
+      this.hi = hi;
+      this.origin = origin;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super long[]> action) {
+      if (action == null)
+        throw new NullPointerException();
+      while (this.lo < this.hi) {
+        ByteBuffer chunk = this.chunks[this.lo];
+        int end = this.lo == this.hi - 1 ? this.fence : chunk.limit();
+        if (this.origin >= end) {
+          this.lo++;
+          this.origin = 0;
+          continue;
+        }
+        int start = this.origin;
+        int newline = start;
+        while (newline < end && chunk.get(newline) != '\n')
+          newline++;
+        this.origin = newline + 1;
+        int stop = newline > start && chunk.get(newline - 1) == '\r' ? newline - 1 : newline;
+        action.accept(decode(chunk, start, stop - start));
+        return true;
+      }
+      return false;
+    }
+
+    private long[] decode(ByteBuffer chunk, int start, int len) {
+      long[] id = new long[AzamCodec.countSections(chunk, start, len, this.nybbles)];
+      try {
+        AzamCodec.check(AzamCodec.decodeSections(chunk, start, len, id, null, 0,
+            AzamCodec.MAX_LONG_ENCODED_LENGTH, this.nybbles));
+        return id;
+      } catch (ParseException e) {
+        throw new IllegalArgumentException("Invalid encoded value at offset " + start, e);
+      }
+    }
+
+    @Override
+    public Spliterator<long[]> trySplit() {
+      if (this.hi - this.lo > 1) {
+        // Split on chunk boundaries, which are line boundaries
+        int mid = (this.lo + this.hi) >>> 1;
+        IdSpliterator prefix = new IdSpliterator(this.chunks, this.nybbles, this.lo, mid,
+            this.origin, this.chunks[mid - 1].limit());
+        this.lo = mid;
+        this.origin = 0;
+        return prefix;
+      }
+      if (this.lo == this.hi)
+        return null;
+      // Split a chunk in the middle, after the next line feed
+      ByteBuffer chunk = this.chunks[this.lo];
+      int mid = (this.origin + this.fence) >>> 1;
+      while (mid < this.fence && chunk.get(mid) != '\n')
+        mid++;
+      mid++;
+      if (mid >= this.fence)
+        return null;
+      IdSpliterator prefix =
+          new IdSpliterator(this.chunks, this.nybbles, this.lo, this.hi, this.origin, mid);
+      this.origin = mid;
+      return prefix;
+    }
+
+    /**
+     * Remaining bytes, as an upper bound of remaining IDs.
+     */
+    @Override
+    public long estimateSize() {
+      long size = 0;
+      for (int i = this.lo; i < this.hi; i++) {
+        int end = i == this.hi - 1 ? this.fence : this.chunks[i].limit();
+        size += end - (i == this.lo ? this.origin : 0);
+      }
+      return size;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | NONNULL | IMMUTABLE;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator of time ordered IDs of 3 sections: epoch milliseconds, node ID and sequence.
+ *
+ * IDs of a generator are strictly increasing, both in {@link AzamCodec#azamComparator()} order and
+ * in plain string order, as the node section is fixed and the sequence section always has
+ * {@link #SEQUENCE_ENCODED_LENGTH} characters. Plain string order also needs the timestamp section
+ * to keep its length, which it does for epoch milliseconds between 2004 and 2527.
+ *
+ * The timestamp and sequence are kept together in a single atomic word, and are advanced with a
+ * compare and set, without locks. Policies:
+ * <ul>
+ * <li>Within the same millisecond, the sequence is incremented.</li>
+ * <li>On sequence overflow, the timestamp is advanced by one millisecond ahead of the clock, so
+ * that generation never blocks nor fails. The clock catches up once it passes the timestamp.</li>
+ * <li>On clock regression, the timestamp stays at the last generated timestamp and the sequence is
+ * incremented, as if the clock had stalled, until the clock passes it again.</li>
+ * </ul>
+ *
+ * <pre>
+ * AzamIdGenerator generator = new AzamIdGenerator(nodeId);
+ * String id = generator.next();
+ * long[] sections = AzamIdGenerator.decode(id); // epoch millis, node ID, sequence
+ * </pre>
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public final class AzamIdGenerator {
+  /**
+   * Source of epoch milliseconds.
+   */
+  public interface Clock {
+    /**
+     * Current time in milliseconds since the epoch.
+     *
+     * @return Milliseconds since the epoch
+     */
+    long millis();
+  }
+
+  /**
+   * Number of sequence bits per millisecond.
+   */
+  public static final int SEQUENCE_BITS = 16;
+  /**
+   * Encoded length of the sequence section, a leading 'h' marker followed by the sequence.
+   */
+  public static final int SEQUENCE_ENCODED_LENGTH = SEQUENCE_BITS / 4 + 1;
+  /**
+   * Maximum encoded length of an ID.
+   */
+  public static final int MAX_ENCODED_LENGTH = AzamCodec.MAX_LONG_ENCODED_LENGTH
+      + AzamCodec.MAX_INT_ENCODED_LENGTH + SEQUENCE_ENCODED_LENGTH;
+
+  /// Room needed for padded writes of all sections
+  private static final int PADDED_LENGTH =
+      AzamCodec.MAX_LONG_ENCODED_LENGTH + AzamCodec.MAX_INT_ENCODED_LENGTH * 2;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  /// Fixed leading bit of sequence sections, so that they have a fixed length
+  private static final long SEQUENCE_MARKER = 1L << SEQUENCE_BITS;
+  private static final long MAX_MILLIS = Long.MAX_VALUE >>> SEQUENCE_BITS;
+
+  private static final Clock SYSTEM_CLOCK = new Clock() {
+    @Override
+    public long millis() {
+      return System.currentTimeMillis();
+    }
+  };
+
+  private final int nodeId;
+  private final Clock clock;
+  /// Last generated timestamp and sequence, as millis << SEQUENCE_BITS | sequence
+  private final AtomicLong state = new AtomicLong();
+
+  /**
+   * Create a generator of node `nodeId` using the system clock.
+   *
+   * @param nodeId Non-negative node ID, unique among generators of the same IDs
+   */
+  public AzamIdGenerator(int nodeId) {
+    this(nodeId, SYSTEM_CLOCK);
+  }
+
+  /**
+   * Create a generator of node `nodeId` using `clock`.
+   *
+   * @param nodeId Non-negative node ID, unique among generators of the same IDs
+   * @param clock Source of epoch milliseconds
+   */
+  public AzamIdGenerator(int nodeId, Clock clock) {
+    if (clock == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (nodeId < 0)
+      throw new IllegalArgumentException("Node ID is negative");
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  /**
+   * Node ID of this generator.
+   *
+   * @return Node ID
+   */
+  public int nodeId() {
+    return this.nodeId;
+  }
+
+  /**
+   * Generate the next ID and return the encoded string.
+   *
+   * @return Azam Codec encoded ID
+   */
+  public String next() {
+    byte[] output = new byte[PADDED_LENGTH];
+    int end = encode(nextState(), output, 0);
+    return new String(output, 0, end, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Generate the next ID and write the encoded characters as ASCII bytes to `dst` starting at
+   * `dstOff`. At most {@link #MAX_ENCODED_LENGTH} bytes are written.
+   *
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int next(byte[] dst, int dstOff) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (dstOff >= 0 && dst.length - dstOff >= PADDED_LENGTH)
+      return encode(nextState(), dst, dstOff);
+    // Not enough room for padded writes
+    long state = nextState();
+    int pos = AzamCodec.azamEncodeLong(state >>> SEQUENCE_BITS, dst, dstOff);
+    pos = AzamCodec.azamEncodeInt(this.nodeId, dst, pos);
+    return AzamCodec.azamEncodeLong(SEQUENCE_MARKER | state & SEQUENCE_MASK, dst, pos);
+  }
+
+  /**
+   * Advance the state, see the policies of this class.
+   */
+  long nextState() {
+    for (;;) {
+      long now = this.clock.millis();
+      long prev = this.state.get();
+      long next;
+      if (now > prev >>> SEQUENCE_BITS && now <= MAX_MILLIS)
+        next = now << SEQUENCE_BITS;
+      else if (prev != Long.MAX_VALUE)
+        // Same millisecond, clock regression, or sequence overflow carrying into the timestamp
+        next = prev + 1;
+      else
+        throw new IllegalStateException("Timestamp is too large");
+      if (this.state.compareAndSet(prev, next))
+        return next;
+    }
+  }
+
+  private int encode(long state, byte[] dst, int dstOff) {
+    int pos = AzamCodec.encodeLongPadded(state >>> SEQUENCE_BITS, dst, dstOff);
+    pos = AzamCodec.encodeLongPadded(this.nodeId, dst, pos);
+    return AzamCodec.encodeLongPadded(SEQUENCE_MARKER | state & SEQUENCE_MASK, dst, pos);
+  }
+
+  /**
+   * Decode an ID generated by this class.
+   *
+   * @param id Azam Codec encoded ID
+   * @return Epoch milliseconds, node ID and sequence
+   * @throws ParseException On invalid Azam Codec characters and/or character orders, or if `id` is
+   *         not a generated ID
+   */
+  public static long[] decode(CharSequence id) throws ParseException {
+    if (id == null)
+      throw new IllegalArgumentException("Argument is null");
+    long[] sections = new long[3];
+    int count = AzamCodec.azamDecodeLongs(id, sections);
+    if (count != 3)
+      throw new ParseException("Invalid ID (expects 3 sections)", 0);
+    if (sections[1] > Integer.MAX_VALUE || sections[2] >>> SEQUENCE_BITS != 1L)
+      throw new ParseException("Invalid ID", 0);
+    sections[2] &= SEQUENCE_MASK;
+    return sections;
+  }
+}
@@ -0,0 +1,49 @@
+package io.azam.azamcodec;
+
+import static io.azam.azamcodec.AzamCodec.HIGHER_ALPHABETS;
+
+/**
+ * Bulk encoding kernel, scalar version.
+ *
+ * The multi-release JAR replaces this class on Java 17 and later with a version that encodes
+ * several bytes per step, see `src/main/java17`. Both versions must behave the same.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+final class AzamKernel {
+  /// Implementation name, for tests and benchmarks
+  static final String NAME = "scalar";
+
+  private AzamKernel() {}
+
+  /**
+   * Encode `len` bytes of `src` starting at `srcOff` as two higher nybble characters each, and
+   * write them as ASCII bytes to `dst` starting at `dstOff`.
+   *
+   * @return Position in `dst` after the last written byte
+   */
+  static int encodeHigher(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    int pos = dstOff;
+    for (int i = srcOff, end = srcOff + len; i < end; i++) {
+      int b = src[i] & 0xff;
+      dst[pos++] = (byte) HIGHER_ALPHABETS[b >> 4];
+      dst[pos++] = (byte) HIGHER_ALPHABETS[b & 0x0f];
+    }
+    return pos;
+  }
+
+  /**
+   * Write `value` as 8 Big-Endian bytes to `dst` starting at `pos`.
+   */
+  static void putLong(byte[] dst, int pos, long value) {
+    dst[pos] = (byte) (value >>> 56);
+    dst[pos + 1] = (byte) (value >>> 48);
+    dst[pos + 2] = (byte) (value >>> 40);
+    dst[pos + 3] = (byte) (value >>> 32);
+    dst[pos + 4] = (byte) (value >>> 24);
+    dst[pos + 5] = (byte) (value >>> 16);
+    dst[pos + 6] = (byte) (value >>> 8);
+    dst[pos + 7] = (byte) (value);
+  }
+}
@@ -0,0 +1,300 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Leading sections shared by many IDs, e.g. the tenant section of all IDs of a request, encoded
+ * once and prepended to the remaining sections of each ID.
+ *
+ * A prefix is immutable and thread safe.
+ *
+ * <pre>
+ * AzamPrefix tenant = AzamPrefix.ofInts(tenantId);
+ * // Same as azamEncodeInts(tenantId, objectId, recordId)
+ * String id = tenant.encodeInts(objectId, recordId);
+ * </pre>
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public final class AzamPrefix {
+  /// Encoded sections as ASCII bytes
+  private final byte[] encoded;
+
+  private AzamPrefix(byte[] encoded) {
+    this.encoded = encoded;
+  }
+
+  /**
+   * Build a prefix of int sections.
+   *
+   * @param values Leading numbers
+   * @return Prefix
+   */
+  public static AzamPrefix ofInts(int... values) {
+    return new AzamPrefix(AzamCodec.azamEncodeInts(values).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Build a prefix of long sections.
+   *
+   * @param values Leading numbers
+   * @return Prefix
+   */
+  public static AzamPrefix ofLongs(long... values) {
+    return new AzamPrefix(AzamCodec.azamEncodeLongs(values).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Build a prefix of byte array sections.
+   *
+   * @param values Leading byte arrays
+   * @return Prefix
+   */
+  public static AzamPrefix ofBytes(byte[]... values) {
+    return new AzamPrefix(AzamCodec.azamEncodeBytes(values).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Build a prefix of already encoded sections. Only canonical lowercase symbols are accepted, so
+   * that IDs built with the prefix are canonical.
+   *
+   * @param encoded Azam Codec encoded string
+   * @return Prefix
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static AzamPrefix of(CharSequence encoded) throws ParseException {
+    if (encoded == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] nybbles = DecodeMode.STRICT.nybbles;
+    int len = encoded.length();
+    for (int i = 0; i < len;)
+      i = AzamCodec.check(AzamCodec.sectionEnd(encoded, i, len, nybbles));
+    return new AzamPrefix(encoded.toString().getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Encoded length of the prefix.
+   *
+   * @return Encoded length
+   */
+  public int length() {
+    return this.encoded.length;
+  }
+
+  /**
+   * Encode `values` as int sections following the prefix, and return the encoded string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public String encodeInts(int... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] output = copyPrefix(values.length * AzamCodec.MAX_INT_ENCODED_LENGTH);
+    int pos = this.encoded.length;
+    for (int value : values)
+      pos = AzamCodec.encodeLongPadded(value & 0xffffffffL, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode `values` as long sections following the prefix, and return the encoded string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public String encodeLongs(long... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] output = copyPrefix(values.length * AzamCodec.MAX_LONG_ENCODED_LENGTH);
+    int pos = this.encoded.length;
+    for (long value : values)
+      pos = AzamCodec.encodeLongPadded(value, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode `values` as byte array sections following the prefix, and return the encoded string.
+   *
+   * @param values Input byte arrays
+   * @return Azam Codec encoded string
+   */
+  public String encodeBytes(byte[]... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Argument is null");
+    int length = 0;
+    for (byte[] value : values) {
+      if (value == null)
+        throw new IllegalArgumentException("Value contains null value");
+      length += value.length * 2;
+    }
+    byte[] output = copyPrefix(length);
+    int pos = this.encoded.length;
+    for (byte[] value : values)
+      pos = AzamCodec.azamEncodeBytes(value, 0, value.length, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Write the prefix followed by `values` encoded as int sections as ASCII bytes to `dst` starting
+   * at `dstOff`. At most {@link #length()} plus {@link AzamCodec#MAX_INT_ENCODED_LENGTH} bytes per
+   * value are written.
+   *
+   * @param values Input numbers
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int encodeInts(int[] values, byte[] dst, int dstOff) {
+    if (values == null || dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int pos = writePrefix(dst, dstOff);
+    for (int value : values)
+      pos = AzamCodec.azamEncodeInt(value, dst, pos);
+    return pos;
+  }
+
+  /**
+   * Write the prefix followed by `values` encoded as long sections as ASCII bytes to `dst` starting
+   * at `dstOff`. At most {@link #length()} plus {@link AzamCodec#MAX_LONG_ENCODED_LENGTH} bytes per
+   * value are written.
+   *
+   * @param values Input numbers
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int encodeLongs(long[] values, byte[] dst, int dstOff) {
+    if (values == null || dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int pos = writePrefix(dst, dstOff);
+    for (long value : values)
+      pos = AzamCodec.azamEncodeLong(value, dst, pos);
+    return pos;
+  }
+
+  /**
+   * Append the prefix followed by `values` encoded as long sections to `out`.
+   *
+   * @param out Output string builder
+   * @param values Input numbers
+   * @return `out`
+   */
+  public StringBuilder encodeLongsTo(StringBuilder out, long... values) {
+    if (out == null || values == null)
+      throw new IllegalArgumentException("Argument is null");
+    out.ensureCapacity(
+        out.length() + this.encoded.length + values.length * AzamCodec.MAX_LONG_ENCODED_LENGTH);
+    for (byte b : this.encoded)
+      out.append((char) b);
+    return AzamCodec.azamEncodeLongsTo(out, values);
+  }
+
+  /**
+   * True if `value` starts with the sections of this prefix, compared as is.
+   *
+   * @param value Azam Codec encoded string
+   * @return True if `value` starts with this prefix
+   */
+  public boolean isPrefixOf(CharSequence value) {
+    if (value == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (value.length() < this.encoded.length)
+      return false;
+    for (int i = 0; i < this.encoded.length; i++) {
+      if (value.charAt(i) != this.encoded[i])
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Inclusive lower bound of encoded IDs starting with this prefix, in plain string order. This is
+   * the prefix itself.
+   *
+   * @return Inclusive lower bound
+   */
+  public String rangeStart() {
+    return toString();
+  }
+
+  /**
+   * Exclusive upper bound of encoded IDs starting with this prefix, in plain string order, or null
+   * if the prefix is empty and there is no upper bound.
+   *
+   * As the prefix ends with the lower nybble character terminating its last section, every ID
+   * starting with its sections starts with the prefix string. The bound is the prefix with its last
+   * character replaced by the next symbol, which is the smallest encoded string after all of them.
+   *
+   * @return Exclusive upper bound
+   */
+  public String rangeEnd() {
+    byte[] end = rangeEndBytes();
+    return end == null ? null : new String(end, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * ASCII bytes version of {@link #rangeStart()}, for stores keyed by bytes.
+   *
+   * @return Inclusive lower bound
+   */
+  public byte[] rangeStartBytes() {
+    return this.encoded.clone();
+  }
+
+  /**
+   * ASCII bytes version of {@link #rangeEnd()}, for stores keyed by bytes.
+   *
+   * @return Exclusive upper bound, or null if the prefix is empty
+   */
+  public byte[] rangeEndBytes() {
+    int last = this.encoded.length - 1;
+    if (last < 0)
+      return null;
+    byte[] end = this.encoded.clone();
+    // A lower nybble symbol, never the last symbol of the alphabets
+    int nybble = AzamCodec.getNybbleValue(end[last]);
+    end[last] = (byte) (nybble == 0x0f ? AzamCodec.HIGHER_ALPHABETS[0]
+        : AzamCodec.LOWER_ALPHABETS[nybble + 1]);
+    return end;
+  }
+
+  private byte[] copyPrefix(int extra) {
+    return Arrays.copyOf(this.encoded, this.encoded.length + extra);
+  }
+
+  /**
+   * Write the prefix as ASCII bytes to `dst` starting at `dstOff`.
+   *
+   * @return Position in `dst` after the last written byte
+   */
+  int writePrefix(byte[] dst, int dstOff) {
+    System.arraycopy(this.encoded, 0, dst, dstOff, this.encoded.length);
+    return dstOff + this.encoded.length;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof AzamPrefix && Arrays.equals(this.encoded, ((AzamPrefix) obj).encoded);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.encoded);
+  }
+
+  /**
+   * Encoded prefix.
+   */
+  @Override
+  public String toString() {
+    return new String(this.encoded, StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,596 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import io.azam.azamcodec.AzamCodec.DecodeError;
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Fixed schema codec for records of heterogeneous sections, e.g. an int tenant ID followed by a
+ * long record ID.
+ *
+ * A schema is built once with {@link #of(Type...)}, and is immutable and thread safe. Values are
+ * set and read through primitive accessors of a {@link Record}, which is mutable, reusable and not
+ * thread safe, so that encoding and decoding neither box nor allocate once a record has been
+ * created. Accessors take typed section handles, resolved once from a section index, so that
+ * section types are checked when resolving instead of on each access.
+ *
+ * <pre>
+ * AzamSchema schema = AzamSchema.of(Type.INT, Type.LONG);
+ * AzamSchema.IntSection tenant = schema.intSection(0);
+ * AzamSchema.LongSection recordId = schema.longSection(1);
+ * AzamSchema.Record record = schema.newRecord();
+ * record.setInt(tenant, 1234).setLong(recordId, 5678L);
+ * String id = schema.encode(record);
+ * schema.decode(id, record);
+ * </pre>
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public final class AzamSchema {
+  /**
+   * Section type.
+   */
+  public enum Type {
+    /**
+     * 4 bytes Big-Endian int.
+     */
+    INT(AzamCodec.MAX_INT_ENCODED_LENGTH),
+    /**
+     * 8 bytes Big-Endian long.
+     */
+    LONG(AzamCodec.MAX_LONG_ENCODED_LENGTH),
+    /**
+     * Non-empty byte array of any length.
+     */
+    BYTES(0);
+
+    /// Maximum encoded length, 0 for variable length
+    final int maxEncodedLength;
+
+    Type(int maxEncodedLength) {
+      this.maxEncodedLength = maxEncodedLength;
+    }
+  }
+
+  /// Sections, each encoding and decoding its own type
+  private final Section[] sections;
+  private final int ints;
+  private final int longs;
+  private final int bytes;
+  private final int maxEncodedLength;
+
+  private AzamSchema(Type[] types) {
+    this.sections = new Section[types.length];
+    int ints = 0;
+    int longs = 0;
+    int bytes = 0;
+    int length = 0;
+    for (int i = 0; i < types.length; i++) {
+      switch (types[i]) {
+        case INT:
+          this.sections[i] = new IntSection(this, i, ints++);
+          break;
+        case LONG:
+          this.sections[i] = new LongSection(this, i, longs++);
+          break;
+        default:
+          this.sections[i] = new BytesSection(this, i, bytes++);
+          break;
+      }
+      length += types[i].maxEncodedLength;
+    }
+    this.ints = ints;
+    this.longs = longs;
+    this.bytes = bytes;
+    this.maxEncodedLength = length;
+  }
+
+  /**
+   * Build a schema of sections of `types`.
+   *
+   * @param types Section types
+   * @return Schema
+   */
+  public static AzamSchema of(Type... types) {
+    if (types == null)
+      throw new IllegalArgumentException("Argument is null");
+    for (Type type : types) {
+      if (type == null)
+        throw new IllegalArgumentException("Arguments contains null value");
+    }
+    return new AzamSchema(types.clone());
+  }
+
+  /**
+   * Number of sections.
+   *
+   * @return Number of sections
+   */
+  public int size() {
+    return this.sections.length;
+  }
+
+  /**
+   * Type of section at `index`.
+   *
+   * @param index Section index
+   * @return Section type
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public Type type(int index) {
+    return this.sections[index].type();
+  }
+
+  /**
+   * Maximum encoded length of INT and LONG sections. Each BYTES section adds up to twice its byte
+   * length; see {@link Record#maxEncodedLength()}.
+   *
+   * @return Maximum encoded length of INT and LONG sections
+   */
+  public int maxEncodedLength() {
+    return this.maxEncodedLength;
+  }
+
+  /**
+   * Resolve INT section at `index`.
+   *
+   * @param index Section index
+   * @return Section handle for records of this schema
+   * @throws IllegalArgumentException If section at `index` is not INT
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public IntSection intSection(int index) {
+    return (IntSection) section(index, Type.INT);
+  }
+
+  /**
+   * Resolve LONG section at `index`.
+   *
+   * @param index Section index
+   * @return Section handle for records of this schema
+   * @throws IllegalArgumentException If section at `index` is not LONG
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public LongSection longSection(int index) {
+    return (LongSection) section(index, Type.LONG);
+  }
+
+  /**
+   * Resolve BYTES section at `index`.
+   *
+   * @param index Section index
+   * @return Section handle for records of this schema
+   * @throws IllegalArgumentException If section at `index` is not BYTES
+   * @throws IndexOutOfBoundsException If there is no section at `index`
+   */
+  public BytesSection bytesSection(int index) {
+    return (BytesSection) section(index, Type.BYTES);
+  }
+
+  private Section section(int index, Type type) {
+    Section section = this.sections[index];
+    if (section.type() != type)
+      throw new IllegalArgumentException("Section " + index + " is not " + type);
+    return section;
+  }
+
+  /**
+   * Create a record of this schema, with all numbers zero and all byte arrays empty.
+   *
+   * @return New record
+   */
+  public Record newRecord() {
+    return new Record(this);
+  }
+
+  /**
+   * Encode `record` and return the encoded string.
+   *
+   * @param record Input record
+   * @return Azam Codec encoded string
+   */
+  public String encode(Record record) {
+    byte[] dst = new byte[checkRecord(record).maxEncodedLength()];
+    int end = encode(record, dst, 0);
+    return new String(dst, 0, end, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode `record` and write the encoded characters as ASCII bytes to `dst` starting at `dstOff`.
+   * At most {@link Record#maxEncodedLength()} bytes are written.
+   *
+   * @param record Input record
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Position in `dst` after the last written byte
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int encode(Record record, byte[] dst, int dstOff) {
+    checkRecord(record);
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int pos = dstOff;
+    for (Section section : this.sections)
+      pos = section.encode(record, dst, pos);
+    return pos;
+  }
+
+  /**
+   * Decode Azam Codec encoded string `value` into `record`.
+   *
+   * @param value Azam Codec encoded string
+   * @param record Output record
+   * @throws ParseException On invalid Azam Codec characters and/or character orders, or if `value`
+   *         does not match this schema
+   */
+  public void decode(CharSequence value, Record record) throws ParseException {
+    decode(value, record, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode Azam Codec encoded string `value` into `record`, accepting symbols as specified by
+   * `mode`. A `value` of fewer or more sections than this schema is rejected with an error offset
+   * at the end of the last section.
+   *
+   * @param value Azam Codec encoded string
+   * @param record Output record
+   * @param mode Decoding mode
+   * @throws ParseException On invalid Azam Codec characters and/or character orders, or if `value`
+   *         does not match this schema
+   */
+  public void decode(CharSequence value, Record record, DecodeMode mode) throws ParseException {
+    checkRecord(record);
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    byte[] nybbles = mode.nybbles;
+    int len = value.length();
+    int start = 0;
+    for (Section section : this.sections) {
+      if (start == len)
+        throw new ParseException("Encoded value has fewer sections than schema", start);
+      int end = AzamCodec.check(AzamCodec.sectionEnd(value, start, len, nybbles));
+      section.decode(value, start, end, nybbles, record);
+      start = end;
+    }
+    if (start != len)
+      throw new ParseException("Encoded value has more sections than schema", start);
+  }
+
+  private Record checkRecord(Record record) {
+    if (record == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (record.schema != this)
+      throw new IllegalArgumentException("Record is not of this schema");
+    return record;
+  }
+
+  /**
+   * Decode number section `value[start..end)`, of at most `maxNybbles` nybbles.
+   */
+  static long decodeNumber(CharSequence value, int start, int end, int maxNybbles, byte[] nybbles)
+      throws ParseException {
+    if (end - start > maxNybbles)
+      throw DecodeError.TOO_LONG.exception(start + maxNybbles);
+    long decoded = 0L;
+    for (int i = start; i < end; i++)
+      decoded = decoded << 4 | (nybbles[value.charAt(i)] & 0x0f);
+    return decoded;
+  }
+
+  /**
+   * Section of a schema. Sections are resolved once from a section index, and encode and decode
+   * their own type, so that neither records nor the schema dispatch on types per call.
+   */
+  public static abstract class Section {
+    final AzamSchema schema;
+    final int index;
+    /// Index in the record array of the section type
+    final int slot;
+
+    Section(AzamSchema schema, int index, int slot) {
+      this.schema = schema;
+      this.index = index;
+      this.slot = slot;
+    }
+
+    /**
+     * Schema of this section.
+     *
+     * @return Schema
+     */
+    public AzamSchema schema() {
+      return this.schema;
+    }
+
+    /**
+     * Section index in the schema.
+     *
+     * @return Section index
+     */
+    public int index() {
+      return this.index;
+    }
+
+    /**
+     * Section type.
+     *
+     * @return Section type
+     */
+    public abstract Type type();
+
+    /**
+     * Encode this section of `record` to `dst` at `pos`, and return the position after it.
+     */
+    abstract int encode(Record record, byte[] dst, int pos);
+
+    /**
+     * Decode validated section `value[start..end)` into this section of `record`.
+     */
+    abstract void decode(CharSequence value, int start, int end, byte[] nybbles, Record record)
+        throws ParseException;
+  }
+
+  /**
+   * INT section, resolved by {@link AzamSchema#intSection(int)}.
+   */
+  public static final class IntSection extends Section {
+    IntSection(AzamSchema schema, int index, int slot) {
+      super(schema, index, slot);
+    }
+
+    @Override
+    public Type type() {
+      return Type.INT;
+    }
+
+    @Override
+    int encode(Record record, byte[] dst, int pos) {
+      return AzamCodec.azamEncodeInt(record.ints[this.slot], dst, pos);
+    }
+
+    @Override
+    void decode(CharSequence value, int start, int end, byte[] nybbles, Record record)
+        throws ParseException {
+      record.ints[this.slot] =
+          (int) decodeNumber(value, start, end, AzamCodec.MAX_INT_ENCODED_LENGTH, nybbles);
+    }
+  }
+
+  /**
+   * LONG section, resolved by {@link AzamSchema#longSection(int)}.
+   */
+  public static final class LongSection extends Section {
+    LongSection(AzamSchema schema, int index, int slot) {
+      super(schema, index, slot);
+    }
+
+    @Override
+    public Type type() {
+      return Type.LONG;
+    }
+
+    @Override
+    int encode(Record record, byte[] dst, int pos) {
+      return AzamCodec.azamEncodeLong(record.longs[this.slot], dst, pos);
+    }
+
+    @Override
+    void decode(CharSequence value, int start, int end, byte[] nybbles, Record record)
+        throws ParseException {
+      record.longs[this.slot] =
+          decodeNumber(value, start, end, AzamCodec.MAX_LONG_ENCODED_LENGTH, nybbles);
+    }
+  }
+
+  /**
+   * BYTES section, resolved by {@link AzamSchema#bytesSection(int)}.
+   */
+  public static final class BytesSection extends Section {
+    BytesSection(AzamSchema schema, int index, int slot) {
+      super(schema, index, slot);
+    }
+
+    @Override
+    public Type type() {
+      return Type.BYTES;
+    }
+
+    @Override
+    int encode(Record record, byte[] dst, int pos) {
+      int length = record.bytesLengths[this.slot];
+      if (length == 0)
+        throw new IllegalArgumentException("BYTES section " + this.index + " is empty");
+      return AzamCodec.azamEncodeBytes(record.bytes[this.slot], 0, length, dst, pos);
+    }
+
+    @Override
+    void decode(CharSequence value, int start, int end, byte[] nybbles, Record record) {
+      // Knowing the nybble count, decode in a single pass
+      int count = end - start;
+      int length = (count + 1) >> 1;
+      byte[] bytes = record.bytesBuffer(this.slot, length);
+      int i = start;
+      int j = 0;
+      if ((count & 1) == 1)
+        bytes[j++] = (byte) (nybbles[value.charAt(i++)] & 0x0f);
+      for (; i < end; i += 2)
+        bytes[j++] =
+            (byte) ((nybbles[value.charAt(i)] & 0x0f) << 4 | (nybbles[value.charAt(i + 1)] & 0x0f));
+      record.bytesLengths[this.slot] = length;
+    }
+  }
+
+  /**
+   * Mutable record of a schema. Reusable, and not thread safe. Sections are accessed through
+   * handles resolved from the schema of the record, and accessors throw
+   * {@link IllegalArgumentException} on handles of other schemas.
+   */
+  public static final class Record {
+    final AzamSchema schema;
+    final int[] ints;
+    final long[] longs;
+    /// Buffers of BYTES sections, grown as needed
+    final byte[][] bytes;
+    final int[] bytesLengths;
+
+    Record(AzamSchema schema) {
+      this.schema = schema;
+      this.ints = new int[schema.ints];
+      this.longs = new long[schema.longs];
+      this.bytes = new byte[schema.bytes][];
+      this.bytesLengths = new int[schema.bytes];
+      for (int i = 0; i < this.bytes.length; i++)
+        this.bytes[i] = new byte[16];
+    }
+
+    /**
+     * Schema of this record.
+     *
+     * @return Schema
+     */
+    public AzamSchema schema() {
+      return this.schema;
+    }
+
+    /**
+     * Maximum encoded length of this record.
+     *
+     * @return Maximum encoded length
+     */
+    public int maxEncodedLength() {
+      int length = this.schema.maxEncodedLength;
+      for (int bytesLength : this.bytesLengths)
+        length += bytesLength * 2;
+      return length;
+    }
+
+    /**
+     * Get INT `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @return Section value
+     */
+    public int getInt(IntSection section) {
+      return this.ints[slot(section)];
+    }
+
+    /**
+     * Set INT `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @param value Section value
+     * @return This record
+     */
+    public Record setInt(IntSection section, int value) {
+      this.ints[slot(section)] = value;
+      return this;
+    }
+
+    /**
+     * Get LONG `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @return Section value
+     */
+    public long getLong(LongSection section) {
+      return this.longs[slot(section)];
+    }
+
+    /**
+     * Set LONG `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @param value Section value
+     * @return This record
+     */
+    public Record setLong(LongSection section, long value) {
+      this.longs[slot(section)] = value;
+      return this;
+    }
+
+    /**
+     * Byte length of BYTES `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @return Byte length
+     */
+    public int bytesLength(BytesSection section) {
+      return this.bytesLengths[slot(section)];
+    }
+
+    /**
+     * Copy BYTES `section` to `dst` starting at `dstOff`.
+     *
+     * @param section Section handle of the schema of this record
+     * @param dst Output byte array
+     * @param dstOff Offset in `dst` to start writing at
+     * @return Number of bytes copied
+     */
+    public int copyBytes(BytesSection section, byte[] dst, int dstOff) {
+      int slot = slot(section);
+      int length = this.bytesLengths[slot];
+      System.arraycopy(this.bytes[slot], 0, dst, dstOff, length);
+      return length;
+    }
+
+    /**
+     * Get a copy of BYTES `section`.
+     *
+     * @param section Section handle of the schema of this record
+     * @return Copy of section bytes
+     */
+    public byte[] getBytes(BytesSection section) {
+      int slot = slot(section);
+      return Arrays.copyOf(this.bytes[slot], this.bytesLengths[slot]);
+    }
+
+    /**
+     * Set BYTES `section` to a copy of `len` bytes of `src` starting at `off`.
+     *
+     * @param section Section handle of the schema of this record
+     * @param src Input byte array
+     * @param off Offset in `src` to start reading from
+     * @param len Number of bytes to copy
+     * @return This record
+     */
+    public Record setBytes(BytesSection section, byte[] src, int off, int len) {
+      int slot = slot(section);
+      if (src == null)
+        throw new IllegalArgumentException("Argument is null");
+      System.arraycopy(src, off, bytesBuffer(slot, len), 0, len);
+      this.bytesLengths[slot] = len;
+      return this;
+    }
+
+    /**
+     * Set BYTES `section` to a copy of `src`.
+     *
+     * @param section Section handle of the schema of this record
+     * @param src Input byte array
+     * @return This record
+     */
+    public Record setBytes(BytesSection section, byte[] src) {
+      if (src == null)
+        throw new IllegalArgumentException("Argument is null");
+      return setBytes(section, src, 0, src.length);
+    }
+
+    private int slot(Section section) {
+      if (section == null)
+        throw new IllegalArgumentException("Argument is null");
+      if (section.schema != this.schema)
+        throw new IllegalArgumentException("Section is not of the schema of this record");
+      return section.slot;
+    }
+
+    byte[] bytesBuffer(int slot, int length) {
+      if (this.bytes[slot].length < length)
+        this.bytes[slot] = new byte[Math.max(length, this.bytes[slot].length * 2)];
+      return this.bytes[slot];
+    }
+  }
+}
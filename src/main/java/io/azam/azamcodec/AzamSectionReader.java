@@ -0,0 +1,483 @@
+package io.azam.azamcodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+
+import io.azam.azamcodec.AzamCodec.DecodeError;
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Pull parser style cursor over newline delimited Azam Codec encoded IDs, walking sections without
+ * decoding them until asked to.
+ *
+ * {@link #next()} advances to the next event: {@link Event#SECTION} on each section,
+ * {@link Event#ID_END} at the end of each ID, and {@link Event#EOF} at the end of input. IDs are
+ * delimited by LF or CRLF, as in {@link AzamIdFile}, and the last ID may end without one. While on
+ * a section, {@link #longValue()}, {@link #byteLength()} and {@link #copyBytes(byte[], int)} decode
+ * it in place, and sections that are not read are never decoded.
+ *
+ * Byte arrays and heap byte buffers are read in place. Other inputs are read in batches into an
+ * internal buffer, which only grows if a single section does not fit, so memory use stays constant
+ * regardless of the input size.
+ *
+ * <pre>
+ * AzamSectionReader reader = new AzamSectionReader(input);
+ * while (reader.next() != AzamSectionReader.Event.EOF) {
+ *   if (reader.event() == AzamSectionReader.Event.SECTION &amp;&amp; reader.sectionIndex() == 0
+ *       &amp;&amp; reader.longValue() != tenantId)
+ *     reader.skipId(); // skip other tenants
+ * }
+ * </pre>
+ *
+ * This class is not thread safe.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamSectionReader implements Closeable {
+  /**
+   * Events of {@link AzamSectionReader#next()}.
+   */
+  public enum Event {
+    /**
+     * On a section of the current ID.
+     */
+    SECTION,
+    /**
+     * At the end of an ID.
+     */
+    ID_END,
+    /**
+     * At the end of input.
+     */
+    EOF
+  }
+
+  private final byte[] nybbles;
+  /// Sources read in batches, at most one of them is set
+  private final InputStream in;
+  private final ByteBuffer buffer;
+  private final CharSequence chars;
+  private int charPos = 0;
+
+  private byte[] buf;
+  /// Buffered encoded characters are buf[pos..limit), the current section is buf[start..pos)
+  private int pos;
+  private int limit;
+  private int start;
+  /// Input offset of buf[0]
+  private long base;
+  private boolean eof = false;
+  private boolean closed = false;
+
+  private Event event = null;
+  /// Sections read of the current ID
+  private int sections = 0;
+
+  /**
+   * Create a lenient reader of encoded characters in `src`.
+   *
+   * @param src Azam Codec encoded IDs
+   */
+  public AzamSectionReader(CharSequence src) {
+    this(src, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Create a reader of encoded characters in `src`, accepting symbols as specified by `mode`.
+   *
+   * @param src Azam Codec encoded IDs
+   * @param mode Decoding mode
+   */
+  public AzamSectionReader(CharSequence src, DecodeMode mode) {
+    this(mode, null, null, src, null, 0, 0, AzamEncoderOutputStream.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a lenient reader of encoded characters as ASCII bytes in `src`, read in place.
+   *
+   * @param src Azam Codec encoded IDs as ASCII bytes
+   */
+  public AzamSectionReader(byte[] src) {
+    this(src, 0, src == null ? 0 : src.length, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Create a reader of encoded characters as ASCII bytes in `src[srcOff..srcOff + srcLen)`, read in
+   * place, accepting symbols as specified by `mode`.
+   *
+   * @param src Azam Codec encoded IDs as ASCII bytes
+   * @param srcOff Offset in `src` to start reading from
+   * @param srcLen Number of bytes to read
+   * @param mode Decoding mode
+   */
+  public AzamSectionReader(byte[] src, int srcOff, int srcLen, DecodeMode mode) {
+    this(mode, null, null, null, src, srcOff, srcOff + srcLen, 0);
+  }
+
+  /**
+   * Create a lenient reader of encoded characters as ASCII bytes remaining in `src`. The position
+   * of `src` is not changed.
+   *
+   * @param src Azam Codec encoded IDs as ASCII bytes
+   */
+  public AzamSectionReader(ByteBuffer src) {
+    this(src, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Create a reader of encoded characters as ASCII bytes remaining in `src`, accepting symbols as
+   * specified by `mode`. Heap buffers are read in place. The position of `src` is not changed.
+   *
+   * @param src Azam Codec encoded IDs as ASCII bytes
+   * @param mode Decoding mode
+   */
+  public AzamSectionReader(ByteBuffer src, DecodeMode mode) {
+    this(mode, null, src, null, null, 0, 0, AzamEncoderOutputStream.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a lenient reader of encoded characters as ASCII bytes from `in`, with default buffer
+   * size.
+   *
+   * @param in Input stream of Azam Codec encoded IDs as ASCII bytes
+   */
+  public AzamSectionReader(InputStream in) {
+    this(in, DecodeMode.LENIENT, AzamEncoderOutputStream.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a reader of encoded characters as ASCII bytes from `in`, with `size` bytes initial
+   * buffer, accepting symbols as specified by `mode`.
+   *
+   * @param in Input stream of Azam Codec encoded IDs as ASCII bytes
+   * @param mode Decoding mode
+   * @param size Initial buffer size
+   */
+  public AzamSectionReader(InputStream in, DecodeMode mode, int size) {
+    this(mode, in, null, null, null, 0, 0, size);
+  }
+
+  /**
+   * Create a reader of exactly one of `in`, `buffer`, `chars` or `array[off..end)`. Arrays and heap
+   * buffers are read in place, other sources through a buffer of `size` bytes.
+   */
+  private AzamSectionReader(DecodeMode mode, InputStream in, ByteBuffer buffer, CharSequence chars,
+      byte[] array, int off, int end, int size) {
+    if (mode == null || in == null && buffer == null && chars == null && array == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (buffer != null && buffer.hasArray()) {
+      array = buffer.array();
+      off = buffer.arrayOffset() + buffer.position();
+      end = buffer.arrayOffset() + buffer.limit();
+      buffer = null;
+    }
+    this.nybbles = mode.nybbles;
+    this.in = in;
+    this.buffer = buffer == null ? null : buffer.duplicate();
+    this.chars = chars;
+    if (array != null) {
+      if (off < 0 || end < off || end > array.length)
+        throw new IndexOutOfBoundsException();
+      this.buf = array;
+      this.eof = true;
+    } else {
+      if (size <= 0)
+        throw new IllegalArgumentException("Buffer size is too small");
+      this.buf = new byte[size];
+      off = end = 0;
+    }
+    this.pos = this.start = off;
+    this.limit = end;
+    this.base = -off;
+  }
+
+  /**
+   * Advance to the next event, moving past the current section without decoding it. The next
+   * section is read and validated as a whole.
+   *
+   * @return Next event
+   * @throws IOException On IO errors of underlying stream
+   * @throws ParseException On invalid Azam Codec characters and/or character orders, including end
+   *         of input in the middle of a section
+   */
+  public Event next() throws IOException, ParseException {
+    ensureOpen();
+    if (this.event == Event.EOF)
+      return Event.EOF;
+    this.start = this.pos;
+    if (this.pos == this.limit && !fill())
+      return this.sections > 0 ? endId() : setEvent(Event.EOF);
+    int c = this.buf[this.pos];
+    if (c == '\n' || c == '\r') {
+      if (c == '\r' && !lineFeedAfter(this.pos))
+        throw DecodeError.UNKNOWN_CHAR.exception(offset(this.pos));
+      this.pos += c == '\r' ? 2 : 1;
+      this.start = this.pos;
+      return endId();
+    }
+    int i = this.pos;
+    for (;;) {
+      // Scan buffered characters, resuming after the ones already scanned
+      long result = AzamCodec.sectionEnd(this.buf, this.pos, i, this.limit, this.nybbles);
+      DecodeError error = DecodeError.of(result);
+      if (error == null) {
+        this.pos = (int) result;
+        this.sections++;
+        return setEvent(Event.SECTION);
+      }
+      if (error != DecodeError.UNTERMINATED)
+        throw error.exception(offset(DecodeError.offset(result)));
+      i = this.limit - this.pos;
+      if (!fill())
+        throw DecodeError.UNTERMINATED.exception(offset(this.pos + i));
+      i += this.pos;
+    }
+  }
+
+  /**
+   * Skip the rest of the current ID, or the next ID if at the end of an ID, without decoding nor
+   * validating the skipped characters, and advance to its {@link Event#ID_END} event.
+   *
+   * @return {@link Event#ID_END}, or {@link Event#EOF} if there is no ID left
+   * @throws IOException On IO errors of underlying stream
+   */
+  public Event skipId() throws IOException {
+    ensureOpen();
+    if (this.event == Event.EOF)
+      return Event.EOF;
+    boolean skipped = this.sections > 0;
+    this.start = this.pos;
+    for (;;) {
+      if (this.pos == this.limit) {
+        this.start = this.pos;
+        if (!fill())
+          return skipped ? endId() : setEvent(Event.EOF);
+      }
+      skipped = true;
+      if (this.buf[this.pos++] == '\n') {
+        this.start = this.pos;
+        return endId();
+      }
+    }
+  }
+
+  /**
+   * Current event.
+   *
+   * @return Current event, or null before the first call of {@link #next()}
+   */
+  public Event event() {
+    return this.event;
+  }
+
+  /**
+   * Index of the current section in its ID.
+   *
+   * @return Section index, starting at 0 for the first section of each ID
+   * @throws IllegalStateException If not on a section
+   */
+  public int sectionIndex() {
+    ensureSection();
+    return this.sections - 1;
+  }
+
+  /**
+   * Number of encoded characters of the current section.
+   *
+   * @return Encoded length
+   * @throws IllegalStateException If not on a section
+   */
+  public int encodedLength() {
+    ensureSection();
+    return this.pos - this.start;
+  }
+
+  /**
+   * Number of decoded bytes of the current section.
+   *
+   * @return Decoded length
+   * @throws IllegalStateException If not on a section
+   */
+  public int byteLength() {
+    ensureSection();
+    return (this.pos - this.start + 1) >> 1;
+  }
+
+  /**
+   * Decode the current section as int.
+   *
+   * @return Decoded section
+   * @throws ParseException If the section is too long to convert
+   */
+  public int intValue() throws ParseException {
+    return (int) decodeValue(AzamCodec.MAX_INT_ENCODED_LENGTH);
+  }
+
+  /**
+   * Decode the current section as long.
+   *
+   * @return Decoded section
+   * @throws ParseException If the section is too long to convert
+   */
+  public long longValue() throws ParseException {
+    return decodeValue(AzamCodec.MAX_LONG_ENCODED_LENGTH);
+  }
+
+  /**
+   * Decode the current section as Big-Endian bytes into `dst`.
+   *
+   * @param dst Output byte array
+   * @return Number of bytes written, see {@link #byteLength()}
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int copyBytes(byte[] dst) {
+    return copyBytes(dst, 0);
+  }
+
+  /**
+   * Decode the current section as Big-Endian bytes into `dst` starting at `dstOff`.
+   *
+   * @param dst Output byte array
+   * @param dstOff Offset in `dst` to start writing at
+   * @return Number of bytes written, see {@link #byteLength()}
+   * @throws ArrayIndexOutOfBoundsException If `dst` is too small
+   */
+  public int copyBytes(byte[] dst, int dstOff) {
+    if (dst == null)
+      throw new IllegalArgumentException("Argument is null");
+    int length = byteLength();
+    if (dstOff < 0 || dst.length - dstOff < length)
+      throw new ArrayIndexOutOfBoundsException("Output is too small");
+    int i = this.start;
+    int o = dstOff;
+    // On odd nybble count, the first byte only has a low nybble
+    if (((this.pos - i) & 1) == 1)
+      dst[o++] = (byte) (this.nybbles[this.buf[i++] & 0xff] & 0x0f);
+    for (; i < this.pos; i += 2)
+      dst[o++] = (byte) ((this.nybbles[this.buf[i] & 0xff] & 0x0f) << 4
+          | (this.nybbles[this.buf[i + 1] & 0xff] & 0x0f));
+    return length;
+  }
+
+  /**
+   * Close the underlying stream, if any.
+   */
+  @Override
+  public void close() throws IOException {
+    if (this.closed)
+      return;
+    this.closed = true;
+    if (this.in != null)
+      this.in.close();
+  }
+
+  private long decodeValue(int maxNybbles) throws ParseException {
+    ensureSection();
+    if (this.pos - this.start > maxNybbles)
+      throw DecodeError.TOO_LONG.exception(offset(this.start + maxNybbles));
+    long value = 0L;
+    for (int i = this.start; i < this.pos; i++)
+      value = value << 4 | (this.nybbles[this.buf[i] & 0xff] & 0x0f);
+    return value;
+  }
+
+  private Event endId() {
+    this.sections = 0;
+    return setEvent(Event.ID_END);
+  }
+
+  private Event setEvent(Event event) {
+    this.event = event;
+    return event;
+  }
+
+  /**
+   * True if a line feed follows buf[i], reading more input as needed.
+   */
+  private boolean lineFeedAfter(int i) throws IOException {
+    if (i + 1 == this.limit) {
+      i -= this.pos;
+      if (!fill())
+        return false;
+      i += this.pos;
+    }
+    return this.buf[i + 1] == '\n';
+  }
+
+  private int offset(int i) {
+    return (int) Math.min(this.base + i, Integer.MAX_VALUE);
+  }
+
+  private void ensureSection() {
+    if (this.event != Event.SECTION)
+      throw new IllegalStateException("Not on a section");
+  }
+
+  private void ensureOpen() throws IOException {
+    if (this.closed)
+      throw new IOException("Reader is closed");
+  }
+
+  /**
+   * Read more encoded characters, compacting or growing the buffer as needed. Characters from `pos`
+   * are retained.
+   *
+   * @return False on end of input
+   */
+  private boolean fill() throws IOException {
+    if (this.eof)
+      return false;
+    if (this.pos > 0) {
+      System.arraycopy(this.buf, this.pos, this.buf, 0, this.limit - this.pos);
+      this.limit -= this.pos;
+      this.start -= this.pos;
+      this.base += this.pos;
+      this.pos = 0;
+    }
+    if (this.limit == this.buf.length) {
+      byte[] grown = new byte[this.buf.length * 2];
+      System.arraycopy(this.buf, 0, grown, 0, this.limit);
+      this.buf = grown;
+    }
+    int n = read(this.buf, this.limit, this.buf.length - this.limit);
+    if (n == -1) {
+      this.eof = true;
+      return false;
+    }
+    this.limit += n;
+    return true;
+  }
+
+  /**
+   * Read at least one byte from the source into `dst`, or return -1 at the end of the source.
+   */
+  private int read(byte[] dst, int off, int len) throws IOException {
+    if (this.in != null) {
+      for (;;) {
+        int n = this.in.read(dst, off, len);
+        if (n != 0)
+          return n;
+      }
+    }
+    if (this.buffer != null) {
+      int n = Math.min(this.buffer.remaining(), len);
+      if (n == 0)
+        return -1;
+      this.buffer.get(dst, off, n);
+      return n;
+    }
+    int n = Math.min(this.chars.length() - this.charPos, len);
+    if (n == 0)
+      return -1;
+    for (int i = 0; i < n; i++) {
+      char c = this.chars.charAt(this.charPos++);
+      // Non ASCII chars are mapped to an invalid byte
+      dst[off + i] = (byte) (c < 0x80 ? c : 0xff);
+    }
+    return n;
+  }
+}
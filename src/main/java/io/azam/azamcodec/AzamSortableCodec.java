@@ -0,0 +1,351 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+import io.azam.azamcodec.AzamCodec.DecodeError;
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Order preserving encodings of signed and floating point numbers.
+ *
+ * Azam Codec encoded sections of the same length sort lexicographically like the unsigned numbers
+ * they encode, but {@link AzamCodec#azamEncodeInts(int...)} sorts negative numbers after positive
+ * ones, and skips leading zero nybbles so that section lengths vary. The encoders of this class
+ * first map each number to bits that sort as unsigned exactly like the number sorts: the sign bit
+ * of integers is flipped, and floating point numbers have their sign bit flipped if positive, or
+ * all bits flipped if negative. The mappings are branch free, and `-0.0` sorts before `0.0` and NaN
+ * after positive infinity, like {@link Double#compare}. The bits are then encoded with all their
+ * nybbles, behind a leading 'h' (nybble 1) as a leading 'g' is not allowed, so that every int and
+ * float section is {@value #SORTABLE_INT_ENCODED_LENGTH} characters long, and every long and double
+ * section is {@value #SORTABLE_LONG_ENCODED_LENGTH} characters long.
+ *
+ * Encoded strings are valid Azam Codec strings, but must be decoded with the matching decoder of
+ * this class.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public final class AzamSortableCodec {
+  /**
+   * Length of an encoded int or float section.
+   */
+  public final static int SORTABLE_INT_ENCODED_LENGTH = AzamCodec.MAX_INT_ENCODED_LENGTH + 1;
+
+  /**
+   * Length of an encoded long or double section.
+   */
+  public final static int SORTABLE_LONG_ENCODED_LENGTH = AzamCodec.MAX_LONG_ENCODED_LENGTH + 1;
+
+  private AzamSortableCodec() {}
+
+  /**
+   * Map int `value` to bits that sort as unsigned like `value` sorts as signed.
+   *
+   * @param value Input int
+   * @return Sortable bits
+   */
+  public static int sortableInt(int value) {
+    return value ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * Inverse of {@link #sortableInt(int)}.
+   *
+   * @param bits Sortable bits
+   * @return Original int
+   */
+  public static int unsortableInt(int bits) {
+    return bits ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * Map long `value` to bits that sort as unsigned like `value` sorts as signed.
+   *
+   * @param value Input long
+   * @return Sortable bits
+   */
+  public static long sortableLong(long value) {
+    return value ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * Inverse of {@link #sortableLong(long)}.
+   *
+   * @param bits Sortable bits
+   * @return Original long
+   */
+  public static long unsortableLong(long bits) {
+    return bits ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * Map float `value` to bits that sort as unsigned like {@link Float#compare} sorts `value`. All
+   * NaN values are collapsed to the canonical NaN.
+   *
+   * @param value Input float
+   * @return Sortable bits
+   */
+  public static int sortableFloat(float value) {
+    int bits = Float.floatToIntBits(value);
+    return bits ^ (bits >> 31 | Integer.MIN_VALUE);
+  }
+
+  /**
+   * Inverse of {@link #sortableFloat(float)}.
+   *
+   * @param bits Sortable bits
+   * @return Original float
+   */
+  public static float unsortableFloat(int bits) {
+    return Float.intBitsToFloat(bits ^ (~bits >> 31 | Integer.MIN_VALUE));
+  }
+
+  /**
+   * Map double `value` to bits that sort as unsigned like {@link Double#compare} sorts `value`. All
+   * NaN values are collapsed to the canonical NaN.
+   *
+   * @param value Input double
+   * @return Sortable bits
+   */
+  public static long sortableDouble(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ (bits >> 63 | Long.MIN_VALUE);
+  }
+
+  /**
+   * Inverse of {@link #sortableDouble(double)}.
+   *
+   * @param bits Sortable bits
+   * @return Original double
+   */
+  public static double unsortableDouble(long bits) {
+    return Double.longBitsToDouble(bits ^ (~bits >> 63 | Long.MIN_VALUE));
+  }
+
+  /**
+   * Encode each int of `values` as an order preserving section, concatenate all sections and
+   * returns the string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public static String azamEncodeSortableInts(int... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Values are null");
+    byte[] output = new byte[values.length * SORTABLE_INT_ENCODED_LENGTH];
+    int pos = 0;
+    for (int value : values)
+      pos = encodeFixed(sortableInt(value), AzamCodec.MAX_INT_ENCODED_LENGTH, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode each long of `values` as an order preserving section, concatenate all sections and
+   * returns the string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public static String azamEncodeSortableLongs(long... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Values are null");
+    byte[] output = new byte[values.length * SORTABLE_LONG_ENCODED_LENGTH];
+    int pos = 0;
+    for (long value : values)
+      pos = encodeFixed(sortableLong(value), AzamCodec.MAX_LONG_ENCODED_LENGTH, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode each float of `values` as an order preserving section, concatenate all sections and
+   * returns the string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public static String azamEncodeSortableFloats(float... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Values are null");
+    byte[] output = new byte[values.length * SORTABLE_INT_ENCODED_LENGTH];
+    int pos = 0;
+    for (float value : values)
+      pos = encodeFixed(sortableFloat(value), AzamCodec.MAX_INT_ENCODED_LENGTH, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Encode each double of `values` as an order preserving section, concatenate all sections and
+   * returns the string.
+   *
+   * @param values Input numbers
+   * @return Azam Codec encoded string
+   */
+  public static String azamEncodeSortableDoubles(double... values) {
+    if (values == null)
+      throw new IllegalArgumentException("Values are null");
+    byte[] output = new byte[values.length * SORTABLE_LONG_ENCODED_LENGTH];
+    int pos = 0;
+    for (double value : values)
+      pos = encodeFixed(sortableDouble(value), AzamCodec.MAX_LONG_ENCODED_LENGTH, output, pos);
+    return new String(output, 0, pos, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableInts(int...)}.
+   *
+   * @param value Azam Codec encoded string
+   * @return Decoded value as int array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int[] azamDecodeSortableInts(String value) throws ParseException {
+    return azamDecodeSortableInts(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableInts(int...)}, accepting
+   * symbols as specified by `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as int array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static int[] azamDecodeSortableInts(String value, DecodeMode mode) throws ParseException {
+    int[] values = new int[countFixed(value, mode, SORTABLE_INT_ENCODED_LENGTH)];
+    for (int i = 0; i < values.length; i++)
+      values[i] = unsortableInt((int) decodeFixed(value, i * SORTABLE_INT_ENCODED_LENGTH,
+          AzamCodec.MAX_INT_ENCODED_LENGTH, mode.nybbles));
+    return values;
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableLongs(long...)}.
+   *
+   * @param value Azam Codec encoded string
+   * @return Decoded value as long array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static long[] azamDecodeSortableLongs(String value) throws ParseException {
+    return azamDecodeSortableLongs(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableLongs(long...)}, accepting
+   * symbols as specified by `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as long array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static long[] azamDecodeSortableLongs(String value, DecodeMode mode)
+      throws ParseException {
+    long[] values = new long[countFixed(value, mode, SORTABLE_LONG_ENCODED_LENGTH)];
+    for (int i = 0; i < values.length; i++)
+      values[i] = unsortableLong(decodeFixed(value, i * SORTABLE_LONG_ENCODED_LENGTH,
+          AzamCodec.MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    return values;
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableFloats(float...)}.
+   *
+   * @param value Azam Codec encoded string
+   * @return Decoded value as float array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static float[] azamDecodeSortableFloats(String value) throws ParseException {
+    return azamDecodeSortableFloats(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableFloats(float...)},
+   * accepting symbols as specified by `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as float array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static float[] azamDecodeSortableFloats(String value, DecodeMode mode)
+      throws ParseException {
+    float[] values = new float[countFixed(value, mode, SORTABLE_INT_ENCODED_LENGTH)];
+    for (int i = 0; i < values.length; i++)
+      values[i] = unsortableFloat((int) decodeFixed(value, i * SORTABLE_INT_ENCODED_LENGTH,
+          AzamCodec.MAX_INT_ENCODED_LENGTH, mode.nybbles));
+    return values;
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableDoubles(double...)}.
+   *
+   * @param value Azam Codec encoded string
+   * @return Decoded value as double array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static double[] azamDecodeSortableDoubles(String value) throws ParseException {
+    return azamDecodeSortableDoubles(value, DecodeMode.LENIENT);
+  }
+
+  /**
+   * Decode all sections of a string encoded by {@link #azamEncodeSortableDoubles(double...)},
+   * accepting symbols as specified by `mode`.
+   *
+   * @param value Azam Codec encoded string
+   * @param mode Decoding mode
+   * @return Decoded value as double array
+   * @throws ParseException On invalid Azam Codec characters and/or character orders
+   */
+  public static double[] azamDecodeSortableDoubles(String value, DecodeMode mode)
+      throws ParseException {
+    double[] values = new double[countFixed(value, mode, SORTABLE_LONG_ENCODED_LENGTH)];
+    for (int i = 0; i < values.length; i++)
+      values[i] = unsortableDouble(decodeFixed(value, i * SORTABLE_LONG_ENCODED_LENGTH,
+          AzamCodec.MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    return values;
+  }
+
+  /**
+   * Write the leading 'h' and all `nybbles` low nybbles of `bits` to `dst` at `pos`.
+   */
+  private static int encodeFixed(long bits, int nybbles, byte[] dst, int pos) {
+    dst[pos++] = (byte) AzamCodec.HIGHER_ALPHABETS[1];
+    for (int shift = (nybbles - 1) * 4; shift > 0; shift -= 4)
+      dst[pos++] = (byte) AzamCodec.HIGHER_ALPHABETS[(int) (bits >>> shift) & 0x0f];
+    dst[pos++] = (byte) AzamCodec.LOWER_ALPHABETS[(int) bits & 0x0f];
+    return pos;
+  }
+
+  private static int countFixed(String value, DecodeMode mode, int width) throws ParseException {
+    if (value == null || mode == null)
+      throw new IllegalArgumentException("Argument is null");
+    if (value.length() % width != 0)
+      throw new ParseException(
+          "Invalid encoded value (sortable section is not " + width + " chars long)",
+          value.length() - value.length() % width);
+    return value.length() / width;
+  }
+
+  /**
+   * Decode the fixed width section starting at `off`, made of a leading 'h' and `nybbles` nybbles.
+   */
+  private static long decodeFixed(String value, int off, int nybbles, byte[] table)
+      throws ParseException {
+    if (AzamCodec.getNybbleValue(table, value.charAt(off)) != (byte) 0x11)
+      throw new ParseException("Invalid encoded value (sortable section does not start with 'h')",
+          off);
+    long bits = 0L;
+    int end = off + nybbles;
+    for (int i = off + 1; i <= end; i++) {
+      byte nybble = AzamCodec.getNybbleValue(table, value.charAt(i));
+      if (nybble == (byte) 0xff)
+        throw DecodeError.UNKNOWN_CHAR.exception(i);
+      if (nybble >> 4 != (i == end ? 0x00 : 0x01))
+        throw new ParseException(
+            "Invalid encoded value (sortable section is not " + (nybbles + 1) + " chars long)", i);
+      bits = bits << 4 | (nybble & 0x0f);
+    }
+    return bits;
+  }
+}
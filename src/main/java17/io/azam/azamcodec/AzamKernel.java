@@ -0,0 +1,77 @@
+package io.azam.azamcodec;
+
+import static io.azam.azamcodec.AzamCodec.HIGHER_ALPHABETS;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk encoding kernel, Java 17 version of the multi-release JAR.
+ *
+ * Uses {@link AzamVectorKernel} if the `jdk.incubator.vector` module is resolved, i.e. the JVM is
+ * started with `--add-modules jdk.incubator.vector`, and the platform has at least 128 bit vectors.
+ * Otherwise encodes 4 bytes per step with SWAR (SIMD within a register) arithmetic on longs.
+ * Setting system property `azamcodec.vector` to `false` disables the Vector API.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+final class AzamKernel {
+  /// Implementation name, for tests and benchmarks
+  static final String NAME;
+  private static final boolean VECTOR;
+
+  static {
+    boolean vector = false;
+    if (!"false".equals(System.getProperty("azamcodec.vector"))
+        && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        vector = AzamVectorKernel.isSupported();
+      } catch (LinkageError e) {
+        // Incompatible incubator API, fall back to SWAR
+      }
+    }
+    VECTOR = vector;
+    NAME = vector ? "vector" : "swar";
+  }
+
+  private static final VarHandle INT =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private AzamKernel() {}
+
+  /**
+   * Encode `len` bytes of `src` starting at `srcOff` as two higher nybble characters each, and
+   * write them as ASCII bytes to `dst` starting at `dstOff`.
+   *
+   * @return Position in `dst` after the last written byte
+   */
+  static int encodeHigher(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    int i = srcOff;
+    int end = srcOff + len;
+    int pos = dstOff;
+    if (VECTOR && len >= AzamVectorKernel.BYTES) {
+      int n = len - len % AzamVectorKernel.BYTES;
+      pos = AzamVectorKernel.encodeHigher(src, i, n, dst, pos);
+      i += n;
+    }
+    for (; i + 4 <= end; i += 4, pos += 8)
+      LONG.set(dst, pos, AzamCodec.higherChars(AzamCodec.spreadNybbles((int) INT.get(src, i))));
+    for (; i < end; i++) {
+      int b = src[i] & 0xff;
+      dst[pos++] = (byte) HIGHER_ALPHABETS[b >> 4];
+      dst[pos++] = (byte) HIGHER_ALPHABETS[b & 0x0f];
+    }
+    return pos;
+  }
+
+  /**
+   * Write `value` as 8 Big-Endian bytes to `dst` starting at `pos`.
+   */
+  static void putLong(byte[] dst, int pos, long value) {
+    LONG.set(dst, pos, value);
+  }
+}
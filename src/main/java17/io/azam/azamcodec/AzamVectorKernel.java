@@ -0,0 +1,56 @@
+package io.azam.azamcodec;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bulk encoding kernel using the incubating Vector API, encoding 8 bytes to 16 characters per step.
+ * Only loaded by {@link AzamKernel} once `jdk.incubator.vector` is known to be resolved.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+final class AzamVectorKernel {
+  private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_64;
+  /// Bytes encoded per step
+  static final int BYTES = SPECIES.length();
+  private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_128;
+
+  private static final ByteVector ALPHABET;
+
+  static {
+    byte[] alphabet = new byte[BYTES * 2];
+    for (int i = 0; i < alphabet.length; i++)
+      alphabet[i] = (byte) AzamCodec.HIGHER_ALPHABETS[i];
+    ALPHABET = ByteVector.fromArray(ByteVector.SPECIES_128, alphabet, 0);
+  }
+
+  private AzamVectorKernel() {}
+
+  /**
+   * True if the platform has vectors of at least 128 bits, so that the Vector API is not emulated.
+   */
+  static boolean isSupported() {
+    return ByteVector.SPECIES_PREFERRED.length() >= BYTES * 2;
+  }
+
+  /**
+   * Encode `len` bytes of `src`, a multiple of {@link #BYTES}, as
+   * {@link AzamKernel#encodeHigher(byte[], int, int, byte[], int)} does.
+   */
+  static int encodeHigher(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    int pos = dstOff;
+    for (int i = srcOff, end = srcOff + len; i < end; i += BYTES, pos += BYTES * 2) {
+      // Widen each byte to a short lane holding its high nybble in the first byte and its low
+      // nybble in the second byte in memory order, then look both up at once
+      ShortVector s = (ShortVector) ByteVector.fromArray(SPECIES, src, i)
+          .convertShape(VectorOperators.B2S, SHORTS, 0);
+      ShortVector n = s.lanewise(VectorOperators.LSHR, 4).and((short) 0x0f)
+          .or(s.and((short) 0x0f).lanewise(VectorOperators.LSHL, 8));
+      ALPHABET.rearrange(n.reinterpretAsBytes().toShuffle()).intoArray(dst, pos);
+    }
+    return pos;
+  }
+}
@@ -0,0 +1,88 @@
+package io.azam.azamcodec;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamBuilder}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamBuilderTest {
+  @Test
+  public void testBuild() {
+    AzamBuilder builder = new AzamBuilder(0);
+    builder.appendInt(0xdeadbeef).appendLong(21L).appendBytes(new byte[] {(byte) 0xc0, 0x01});
+    Assert.assertEquals("xytxvyyfh5wgg1", builder.toString());
+
+    int[][] ranges = {{1, -1}, {-1, 1}, {1, 2}, {3, 0}, {1, Integer.MAX_VALUE}};
+    for (int[] range : ranges) {
+      try {
+        builder.appendBytes(new byte[] {1, 2}, range[0], range[1]);
+        Assert.fail("Expects IndexOutOfBoundsException");
+      } catch (IndexOutOfBoundsException e) {
+        // Expected
+      }
+    }
+    Assert.assertEquals("xytxvyyfh5wgg1", builder.toString());
+    Assert.assertEquals(14, builder.length());
+
+    byte[] dst = new byte[16];
+    Assert.assertEquals(15, builder.copyTo(dst, 1));
+    Assert.assertEquals("xytxvyyfh5wgg1", new String(dst, 1, 14, StandardCharsets.US_ASCII));
+
+    ByteBuffer view = builder.asReadOnlyBuffer();
+    Assert.assertEquals(14, view.remaining());
+    Assert.assertEquals('x', view.get(0));
+    try {
+      view.put(0, (byte) 'y');
+      Assert.fail("Expects ReadOnlyBufferException");
+    } catch (ReadOnlyBufferException e) {
+      // Expected
+    }
+
+    builder.reset().append(AzamPrefix.ofInts(0xdeadbeef)).appendBytes(new byte[0])
+        .appendBytes(new byte[] {0, 0x15, 0}, 1, 1).appendInt(49153);
+    Assert.assertEquals("xytxvyyfh5wgg1", builder.toString());
+
+    // Grows past the initial capacity
+    builder.reset();
+    for (int i = 0; i < 100; i++)
+      builder.appendLong(-1L);
+    Assert.assertEquals(1600, builder.length());
+    Assert.assertEquals(AzamCodec.azamEncodeLongs(-1L), builder.toString().substring(1584));
+  }
+
+  @Test
+  public void testLocal() throws InterruptedException {
+    final AzamBuilder builder = AzamBuilder.local().appendInt(1);
+    Assert.assertSame(builder, AzamBuilder.local());
+    Assert.assertEquals(0, AzamBuilder.local().length());
+    final AzamBuilder[] other = new AzamBuilder[1];
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        other[0] = AzamBuilder.local();
+      }
+    });
+    thread.start();
+    thread.join();
+    Assert.assertNotNull(other[0]);
+    Assert.assertNotSame(builder, other[0]);
+
+    // Buffers grown over the retained capacity are dropped, smaller ones are kept
+    AzamBuilder.local().appendBytes(new byte[AzamBuilder.MAX_RETAINED_CAPACITY / 2]);
+    byte[] retained = builder.buf;
+    Assert.assertTrue(retained.length <= AzamBuilder.MAX_RETAINED_CAPACITY);
+    Assert.assertSame(retained, AzamBuilder.local().buf);
+    AzamBuilder.local().appendBytes(new byte[AzamBuilder.MAX_RETAINED_CAPACITY]);
+    Assert.assertTrue(builder.buf.length > AzamBuilder.MAX_RETAINED_CAPACITY);
+    Assert.assertSame(builder, AzamBuilder.local());
+    Assert.assertEquals(AzamBuilder.DEFAULT_CAPACITY, builder.buf.length);
+  }
+}
@@ -0,0 +1,106 @@
+package io.azam.azamcodec;
+
+import java.text.ParseException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamBulkCodec}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamBulkCodecTest {
+  @Test
+  public void testAzamEncodeAll() {
+    long[][] ids = AzamIdFileTest.ids();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int threshold : new int[] {1, 7, ids.length}) {
+        AzamBulkCodec.Encoded encoded = AzamBulkCodec.azamEncodeAll(ids, pool, threshold);
+        Assert.assertEquals(ids.length, encoded.size());
+        for (int i = 0; i < ids.length; i++) {
+          Assert.assertEquals(AzamCodec.azamEncodeLongs(ids[i]), encoded.get(i));
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+    Assert.assertEquals(0, AzamBulkCodec.azamEncodeAll(new long[0][]).size());
+  }
+
+  @Test
+  public void testAzamDecodeAll() throws ParseException {
+    long[][] ids = AzamIdFileTest.ids();
+    String[] encoded = new String[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      encoded[i] = AzamCodec.azamEncodeLongs(ids[i]);
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int threshold : new int[] {1, 7, ids.length}) {
+        AzamBulkCodec.Decoded decoded =
+            AzamBulkCodec.azamDecodeAll(encoded, DecodeMode.STRICT, pool, threshold);
+        Assert.assertEquals(ids.length, decoded.size());
+        for (int i = 0; i < ids.length; i++) {
+          Assert.assertEquals(ids[i].length, decoded.sections(i));
+          for (int j = 0; j < ids[i].length; j++) {
+            Assert.assertEquals(ids[i][j], decoded.get(i, j));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testAzamDecodeAllParseException() {
+    String[] encoded = new String[100];
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = AzamCodec.azamEncodeInts(i, i);
+    }
+    encoded[42] = "zz";
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      AzamBulkCodec.azamDecodeAll(encoded, DecodeMode.LENIENT, pool, 8);
+      Assert.fail("azamDecodeAll expects ParseException");
+    } catch (ParseException e) {
+      Assert.assertTrue(e.getMessage().contains("42"));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testAzamDecodeColumns() {
+    String[] ids = new String[] {"xytxvyyfh5wgg1", "0h0zzzzzzzf", "xytxvyyfh5", "xytxvyyfh5wgg11",
+        "xy_", "hggggggg000", "XYTXVYYFH5WGG1"};
+    int[] tenants = new int[ids.length];
+    int[] objects = new int[ids.length];
+    int[] records = new int[ids.length];
+    int[] errors = new int[ids.length];
+    Assert.assertEquals(4, AzamBulkCodec.azamDecodeColumns(ids,
+        new int[][] {tenants, objects, records}, errors, DecodeMode.LENIENT));
+    Assert.assertArrayEquals(new int[] {-1, -1, 10, 14, 2, 8, -1}, errors);
+    Assert.assertEquals(0xdeadbeef, tenants[0]);
+    Assert.assertEquals(0x15, objects[0]);
+    Assert.assertEquals(0xc001, records[0]);
+    Assert.assertEquals(0x00, tenants[1]);
+    Assert.assertEquals(0x10, objects[1]);
+    Assert.assertEquals(0xffffffff, records[1]);
+    Assert.assertEquals(0xdeadbeef, tenants[6]);
+
+    long[] longs = new long[ids.length];
+    Assert.assertEquals(4,
+        AzamBulkCodec.azamDecodeColumns(ids,
+            new long[][] {longs, new long[ids.length], new long[ids.length]}, errors,
+            DecodeMode.STRICT));
+    Assert.assertArrayEquals(new int[] {-1, -1, 10, 14, 2, -1, 0}, errors);
+    Assert.assertEquals(0x100000000L, longs[5]);
+  }
+}
@@ -1,10 +1,21 @@
 package io.azam.azamcodec;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -185,6 +196,17 @@ public class AzamCodecTest {
     return value;
   }
 
+  // Buffer.flip() is overridden with covariant return types since Java 9, so call it through Buffer
+  // to stay compatible with Java 8 runtime
+  final static <T extends Buffer> T flip(T buffer) {
+    buffer.flip();
+    return buffer;
+  }
+
+  final static long[] l(long... values) {
+    return values;
+  }
+
   final static byte[][] bb(byte[]... values) {
     byte[][] value = new byte[values.length][];
     for (int i = 0; i < values.length; i++) {
@@ -241,6 +263,102 @@ public class AzamCodecTest {
     }
   }
 
+  @Test
+  public void testAzamEncodeToArray() {
+    for (Sample sample : SAMPLES) {
+      byte[] expected = sample.encoded.getBytes(StandardCharsets.US_ASCII);
+      byte[] bytes = sample.bytes[0];
+      byte[] src = new byte[bytes.length + 2];
+      System.arraycopy(bytes, 0, src, 1, bytes.length);
+      byte[] dst = new byte[MAX_LONG_ENCODED_LENGTH + 2];
+
+      int end = azamEncodeBytes(src, 1, bytes.length, dst, 1);
+      Assert.assertEquals("azamEncodeBytes position failed for " + sample.encoded,
+          expected.length + 1, end);
+      Assert.assertArrayEquals("azamEncodeBytes failed for " + sample.encoded, expected,
+          Arrays.copyOfRange(dst, 1, end));
+
+      Arrays.fill(dst, (byte) 0);
+      end = azamEncodeLong(sample.longs[0], dst, 1);
+      Assert.assertEquals("azamEncodeLong position failed for " + sample.encoded,
+          expected.length + 1, end);
+      Assert.assertArrayEquals("azamEncodeLong failed for " + sample.encoded, expected,
+          Arrays.copyOfRange(dst, 1, end));
+
+      Arrays.fill(dst, (byte) 0);
+      end = azamEncodeInt(sample.ints()[0], dst, 1);
+      Assert.assertEquals("azamEncodeInt position failed for " + sample.encoded,
+          expected.length + 1, end);
+      Assert.assertArrayEquals("azamEncodeInt failed for " + sample.encoded, expected,
+          Arrays.copyOfRange(dst, 1, end));
+    }
+    // Every length and nybble value, against the byte encoder
+    Random random = new Random(42);
+    byte[] src = new byte[8];
+    byte[] expected = new byte[MAX_LONG_ENCODED_LENGTH];
+    byte[] actual = new byte[MAX_LONG_ENCODED_LENGTH];
+    for (int i = 0; i < 10000; i++) {
+      long value = random.nextLong() >>> random.nextInt(64);
+      ByteBuffer.wrap(src).putLong(value);
+      int end = azamEncodeBytes(src, 0, src.length, expected, 0);
+      Assert.assertEquals(end, azamEncodeLong(value, actual, 0));
+      Assert.assertArrayEquals("azamEncodeLong failed for " + value, Arrays.copyOf(expected, end),
+          Arrays.copyOf(actual, end));
+      String encoded = new String(expected, 0, end, StandardCharsets.US_ASCII);
+      Assert.assertEquals(encoded, azamEncodeLongs(value, value).substring(end));
+      Assert.assertEquals(encoded, azamEncodeLongsTo(new StringBuilder(), value).toString());
+      if (value >>> 32 == 0L)
+        Assert.assertEquals(encoded, azamEncodeInts((int) value, (int) value).substring(end));
+    }
+    byte[] dst = new byte[4];
+    Assert.assertEquals(0, azamEncodeBytes(new byte[0], 0, 0, dst, 0));
+    Assert.assertEquals(1, azamEncodeBytes(b(0x00, 0x00), 0, 2, dst, 0));
+    Assert.assertEquals('0', dst[0]);
+
+    // Out of range source fails before writing
+    int[][] ranges = {{1, -1}, {-1, 1}, {1, 2}, {3, 0}, {1, Integer.MAX_VALUE}};
+    for (int[] range : ranges) {
+      Arrays.fill(dst, (byte) 0);
+      try {
+        azamEncodeBytes(b(0x12, 0x34), range[0], range[1], dst, 0);
+        Assert.fail("Expects IndexOutOfBoundsException for " + Arrays.toString(range));
+      } catch (IndexOutOfBoundsException e) {
+        // Expected
+      }
+      Assert.assertArrayEquals(new byte[4], dst);
+    }
+  }
+
+  @Test
+  public void testAzamEncodeTo() throws IOException {
+    for (Sample sample : MULTI_SAMPLES) {
+      StringBuilder expected = new StringBuilder("_").append(sample.encoded);
+      Assert.assertEquals("azamEncodeBytesTo failed for " + sample.encoded, expected.toString(),
+          azamEncodeBytesTo(new StringBuilder("_"), sample.bytes).toString());
+      StringWriter writer = new StringWriter();
+      writer.write('_');
+      azamEncodeBytesTo((Appendable) writer, sample.bytes);
+      Assert.assertEquals("azamEncodeBytesTo failed for " + sample.encoded, expected.toString(),
+          writer.toString());
+      if (sample.largestBytesLength() <= Long.BYTES) {
+        Assert.assertEquals("azamEncodeLongsTo failed for " + sample.encoded, expected.toString(),
+            azamEncodeLongsTo(new StringBuilder("_"), sample.longs).toString());
+        Assert.assertEquals("azamEncodeLongsTo failed for " + sample.encoded, expected.toString(),
+            azamEncodeLongsTo((Appendable) new StringBuilder("_"), sample.longs).toString());
+      }
+    }
+    for (Sample sample : SAMPLES) {
+      if (sample.largestBytesLength() <= Integer.BYTES) {
+        Assert.assertEquals("azamEncodeIntsTo failed for " + sample.encoded, sample.encoded,
+            azamEncodeIntsTo(new StringBuilder(), sample.ints()).toString());
+        Assert.assertEquals("azamEncodeIntsTo failed for " + sample.encoded, sample.encoded,
+            azamEncodeIntsTo((Appendable) new StringBuilder(), sample.ints()).toString());
+      }
+    }
+    Assert.assertEquals("xytxvyyfh5wgg1",
+        azamEncodeIntsTo(new StringBuilder(), -559038737, 21, 49153).toString());
+  }
+
   @Test
   public void testAzamDecodeAllBytes() throws ParseException {
     for (Sample sample : SAMPLES) {
@@ -259,6 +377,27 @@ public class AzamCodecTest {
     }
   }
 
+  @Test
+  public void testAzamDecodeStreamSectionLong() throws IOException, ParseException {
+    // Sections longer than a long, with odd and even nybble counts
+    Random random = new Random(0);
+    for (int length = 1; length <= 40; length++) {
+      for (int lead = 0x01; lead <= 0xff; lead += 0x0f) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        bytes[0] = (byte) lead;
+        String encoded = azamEncodeBytes(bytes);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        azamDecodeStreamSection(
+            new ByteArrayInputStream(encoded.getBytes(StandardCharsets.US_ASCII)), output);
+        Assert.assertArrayEquals("azamDecodeStreamSection failed for " + encoded, bytes,
+            output.toByteArray());
+        Assert.assertArrayEquals("azamDecodeBytes failed for " + encoded, bytes,
+            azamDecodeBytes(encoded + encoded)[1]);
+      }
+    }
+  }
+
   void assertAzamDecodeInts(String value, int... expected) {
     try {
       int[] actual = azamDecodeInts(value);
@@ -304,6 +443,555 @@ public class AzamCodecTest {
     }
   }
 
+  @Test
+  public void testAzamDecodeToArray() throws ParseException {
+    for (Sample sample : MULTI_SAMPLES) {
+      if (sample.largestBytesLength() > Long.BYTES)
+        continue;
+      String padded = "_" + sample.encoded + "_";
+      byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+      int len = sample.encoded.length();
+      long[] longs = new long[sample.longs.length];
+
+      Assert.assertEquals(sample.longs.length, azamDecodeLongs(padded, 1, len, longs));
+      Assert.assertArrayEquals("azamDecodeLongs failed for " + sample.encoded, sample.longs, longs);
+
+      Arrays.fill(longs, 0L);
+      Assert.assertEquals(sample.longs.length, azamDecodeLongs(bytes, 1, len, longs));
+      Assert.assertArrayEquals("azamDecodeLongs failed for " + sample.encoded, sample.longs, longs);
+
+      if (sample.largestBytesLength() <= Integer.BYTES) {
+        int[] ints = new int[sample.longs.length];
+        Assert.assertEquals(ints.length, azamDecodeInts(new StringBuilder(sample.encoded), ints));
+        Assert.assertArrayEquals("azamDecodeInts failed for " + sample.encoded, sample.ints(),
+            ints);
+        Arrays.fill(ints, 0);
+        Assert.assertEquals(ints.length, azamDecodeInts(bytes, 1, len, ints));
+        Assert.assertArrayEquals("azamDecodeInts failed for " + sample.encoded, sample.ints(),
+            ints);
+      }
+    }
+
+    // Returns section count even when output is absent or too short
+    long[] longs = new long[1];
+    Assert.assertEquals(3, azamDecodeLongs("xytxvyyfh5wgg1", (long[]) null));
+    Assert.assertEquals(3, azamDecodeLongs("xytxvyyfh5wgg1", longs));
+    Assert.assertEquals(0xdeadbeefL, longs[0]);
+  }
+
+  @Test
+  public void testAzamDecodeModes() throws ParseException {
+    // Canonical values decode the same on both modes
+    for (Sample sample : MULTI_SAMPLES) {
+      if (sample.largestBytesLength() <= Long.BYTES) {
+        Assert.assertArrayEquals("azamDecodeLongs failed for " + sample.encoded, sample.longs,
+            azamDecodeLongs(sample.encoded, DecodeMode.STRICT));
+        Assert.assertArrayEquals("azamDecodeLongs failed for " + sample.encoded, sample.longs,
+            azamDecodeLongs(sample.encoded, DecodeMode.LENIENT));
+      }
+    }
+
+    // Uppercase and aliases are accepted only on lenient mode
+    String[] aliases = new String[] {"O", "I", "L", "l", "i", "o", "XYTXVYYFH5WGG1", "hGo", "zZzF"};
+    long[][] expected = new long[][] {l(0x00), l(0x01), l(0x01), l(0x01), l(0x01), l(0x00),
+        l(0xdeadbeefL, 0x15, 0xc001), l(0x0100), l(0xffff)};
+    for (int i = 0; i < aliases.length; i++) {
+      final String value = aliases[i];
+      Assert.assertArrayEquals("azamDecodeLongs failed for " + value, expected[i],
+          azamDecodeLongs(value));
+      Assert.assertArrayEquals("azamDecodeLongs failed for " + value, expected[i],
+          azamDecodeLongs(value, DecodeMode.LENIENT));
+      Assert.assertThrows("azamDecodeLongs expects ParseException for " + value,
+          ParseException.class, new ThrowingRunnable() {
+            @Override
+            public void run() throws ParseException {
+              azamDecodeLongs(value, DecodeMode.STRICT);
+            }
+          });
+    }
+  }
+
+  @Test
+  public void testAzamDecodeRandom() {
+    Random random = new Random(42);
+    for (int n = 0; n < 5000; n++) {
+      // Sections of 1 to 16 nybbles, and where each of them ends
+      long[] values = new long[random.nextInt(5)];
+      int[] ends = new int[values.length];
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextLong() >>> random.nextInt(64);
+        builder.append(azamEncodeLongs(values[i]));
+        ends[i] = builder.length();
+      }
+      String canonical = builder.toString();
+      // Same sections with uppercase symbols, and aliases of terminating 0 and 1
+      builder.setLength(0);
+      for (int i = 0; i < canonical.length(); i++) {
+        char c = canonical.charAt(i);
+        if (random.nextBoolean())
+          c = Character.toUpperCase(c);
+        if (c == '0' && random.nextBoolean())
+          c = random.nextBoolean() ? 'o' : 'O';
+        else if (c == '1' && random.nextBoolean())
+          c = "iIlL".charAt(random.nextInt(4));
+        builder.append(c);
+      }
+      String lenient = builder.toString();
+      assertSections(canonical, values, ends, DecodeMode.STRICT);
+      assertSections(lenient, values, ends, DecodeMode.LENIENT);
+      if (!lenient.equals(canonical))
+        Assert.assertFalse(lenient, azamIsValid(lenient, DecodeMode.STRICT));
+
+      if (values.length == 0)
+        continue;
+      int len = canonical.length();
+      for (DecodeMode mode : DecodeMode.values()) {
+        int p = random.nextInt(len);
+        for (char c : new char[] {'_', '\u00e9', '\u0130'}) {
+          assertInvalid(canonical.substring(0, p) + c + canonical.substring(p + 1),
+              DecodeError.UNKNOWN_CHAR.at(p), mode);
+        }
+        int i = random.nextInt(values.length);
+        int start = i == 0 ? 0 : ends[i - 1];
+        if (ends[i] - start > 1) {
+          assertInvalid(canonical.substring(0, start) + 'g' + canonical.substring(start + 1),
+              DecodeError.LEADING_G.at(start), mode);
+        }
+        if (len - (values.length == 1 ? 0 : ends[values.length - 2]) > 1) {
+          assertInvalid(canonical.substring(0, len - 1), DecodeError.UNTERMINATED.at(len - 1),
+              mode);
+        }
+      }
+    }
+  }
+
+  /// Check decoders against `values` known to be encoded in `value`, ending at `ends`
+  static void assertSections(String value, long[] values, int[] ends, DecodeMode mode) {
+    byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+    int len = value.length();
+    long[] actual = new long[values.length];
+    Assert.assertEquals(value, values.length,
+        decodeSections(value, 0, len, actual, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    Assert.assertArrayEquals(value, values, actual);
+    actual = new long[values.length];
+    Assert.assertEquals(value, values.length,
+        decodeSections(bytes, 0, len, actual, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    Assert.assertArrayEquals(value, values, actual);
+    Assert.assertEquals(value, values.length, countSections(value, 0, len, mode.nybbles));
+    Assert.assertTrue(value, azamIsValid(value, mode));
+
+    // Sections of more than 8 nybbles are too long for ints
+    long expected = values.length;
+    int start = 0;
+    for (int end : ends) {
+      Assert.assertEquals(value, end, sectionEnd(value, start, len, mode.nybbles));
+      Assert.assertEquals(value, end, sectionEnd(bytes, start, len, mode.nybbles));
+      if (end - start > MAX_INT_ENCODED_LENGTH && expected >= 0)
+        expected = DecodeError.TOO_LONG.at(start + MAX_INT_ENCODED_LENGTH);
+      start = end;
+    }
+    Assert.assertEquals(value, expected, decodeSections(value, 0, len, new long[values.length],
+        null, 0, MAX_INT_ENCODED_LENGTH, mode.nybbles));
+  }
+
+  /// Check decoders fail on `value` with `expected` error result
+  static void assertInvalid(String value, long expected, DecodeMode mode) {
+    int len = value.length();
+    long[] dst = new long[len];
+    Assert.assertEquals(value, expected,
+        decodeSections(value, 0, len, dst, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    if (value.indexOf('\u0130') < 0) {
+      byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+      Assert.assertEquals(value, expected,
+          decodeSections(bytes, 0, len, dst, null, 0, MAX_LONG_ENCODED_LENGTH, mode.nybbles));
+    }
+    long end = 0L;
+    for (int i = 0; end >= 0; i = (int) end)
+      end = sectionEnd(value, i, len, mode.nybbles);
+    Assert.assertEquals(value, expected, end);
+    Assert.assertFalse(value, azamIsValid(value, mode));
+  }
+
+  @Test
+  public void testAzamTryDecode() throws ParseException {
+    for (Sample sample : MULTI_SAMPLES) {
+      Assert.assertTrue("azamIsValid failed for " + sample.encoded, azamIsValid(sample.encoded));
+      if (sample.largestBytesLength() <= Long.BYTES) {
+        long[] longs = new long[sample.longs.length];
+        Assert.assertEquals(sample.longs.length, azamTryDecodeLongs(sample.encoded, longs));
+        Assert.assertArrayEquals(sample.longs, longs);
+        Assert.assertNull(DecodeError.of(sample.longs.length));
+        Assert.assertEquals(-1, DecodeError.offset(sample.longs.length));
+      }
+    }
+    Assert.assertTrue(azamIsValid(""));
+    Assert.assertTrue(azamIsValid("XYTXVYYFH5WGG1"));
+    Assert.assertFalse(azamIsValid("XYTXVYYFH5WGG1", DecodeMode.STRICT));
+
+    String[] invalids =
+        new String[] {"h", "hh", "_0", "0_", "gf", "hggggggg0", "0zzzzzzzzf", "0g0"};
+    DecodeError[] errors = new DecodeError[] {DecodeError.UNTERMINATED, DecodeError.UNTERMINATED,
+        DecodeError.UNKNOWN_CHAR, DecodeError.UNKNOWN_CHAR, DecodeError.LEADING_G,
+        DecodeError.TOO_LONG, DecodeError.TOO_LONG, DecodeError.LEADING_G};
+    int[] offsets = new int[] {1, 2, 0, 1, 0, 8, 9, 1};
+    for (int i = 0; i < invalids.length; i++) {
+      String value = invalids[i];
+      Assert.assertEquals("azamIsValid failed for " + value, errors[i] == DecodeError.TOO_LONG,
+          azamIsValid(value));
+      long result = azamTryDecodeInts(value, null);
+      Assert.assertTrue("azamTryDecodeInts failed for " + value, result < 0);
+      Assert.assertEquals("azamTryDecodeInts failed for " + value, errors[i],
+          DecodeError.of(result));
+      Assert.assertEquals("azamTryDecodeInts failed for " + value, offsets[i],
+          DecodeError.offset(result));
+      try {
+        azamDecodeInts(value);
+        Assert.fail("azamDecodeInts expects ParseException for " + value);
+      } catch (ParseException e) {
+        Assert.assertEquals(errors[i].message(), e.getMessage());
+        Assert.assertEquals(offsets[i], e.getErrorOffset());
+      }
+    }
+    Assert.assertTrue(azamTryDecodeLongs("0zzzzzzzzf", null) == 2);
+    Assert.assertEquals(DecodeError.UNKNOWN_CHAR,
+        DecodeError.of(azamTryDecodeLongs("0X", null, DecodeMode.STRICT)));
+  }
+
+  @Test
+  public void testAzamSectionAccess() throws ParseException {
+    for (Sample sample : MULTI_SAMPLES) {
+      Assert.assertEquals("azamSectionCount failed for " + sample.encoded, sample.bytes.length,
+          azamSectionCount(sample.encoded));
+      int start = 0;
+      for (int i = 0; i < sample.bytes.length; i++) {
+        long bounds = azamSectionBounds(sample.encoded, i);
+        Assert.assertEquals("azamSectionBounds failed for " + sample.encoded, start,
+            (int) (bounds >>> 32));
+        start = (int) bounds;
+        if (sample.largestBytesLength() <= Long.BYTES)
+          Assert.assertEquals("azamDecodeLongSection failed for " + sample.encoded, sample.longs[i],
+              azamDecodeLongSection(sample.encoded, i));
+      }
+      Assert.assertEquals(sample.encoded.length(), start);
+      Assert.assertEquals(-1L, azamSectionBounds(sample.encoded, sample.bytes.length));
+      Assert.assertEquals(-1L, azamSectionBounds(sample.encoded, -1));
+    }
+    Assert.assertEquals(0, azamSectionCount(""));
+    Assert.assertEquals(0x15, azamDecodeIntSection("XYTXVYYFH5WGG1", 1));
+    Assert.assertEquals(0xc001, azamDecodeIntSection("xytxvyyfh5wgg1", 2, DecodeMode.STRICT));
+    // Sections after the requested one are not validated
+    Assert.assertEquals(0xdeadbeef, azamDecodeIntSection("xytxvyyf_", 0));
+
+    Assert.assertThrows(IndexOutOfBoundsException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws ParseException {
+        azamDecodeLongSection("xytxvyyfh5wgg1", 3);
+      }
+    });
+    for (final String value : new String[] {"xytxvyyf_", "h", "hzzzzzzzz0"}) {
+      Assert.assertThrows(ParseException.class, new ThrowingRunnable() {
+        @Override
+        public void run() throws ParseException {
+          azamSectionCount(value);
+          azamDecodeIntSection(value, 0);
+          azamDecodeIntSection(value, 1);
+        }
+      });
+    }
+  }
+
+  @Test
+  public void testAzamSuccessor() throws ParseException {
+    String[][] steps = new String[][] {{"0", "1"}, {"9", "a"}, {"f", "h0"}, {"h0", "h1"},
+        {"hf", "j0"}, {"zf", "hg0"}, {"zzzzzzzf", "hggggggg0"}, {"xytxvyyf", "xytxvyz0"},
+        {"xytxvyyfh5wgg1", "xytxvyyfh5wgg2"}, {"xytxvyyfh5wgzf", "xytxvyyfh5whg0"},
+        {"xytxvyyfh5zzzf", "xytxvyyfh5hggg0"}};
+    for (String[] step : steps) {
+      Assert.assertEquals("azamSuccessor failed for " + step[0], step[1], azamSuccessor(step[0]));
+      Assert.assertEquals("azamPredecessor failed for " + step[1], step[0],
+          azamPredecessor(step[1], DecodeMode.STRICT));
+    }
+    Assert.assertNull(azamPredecessor("0"));
+    Assert.assertNull(azamPredecessor("xytxvyyf0"));
+    Assert.assertNull(azamSectionPredecessor("xytxvyyf0", 1));
+    Assert.assertEquals("xytxvyyfj0wgg1", azamSectionSuccessor("xytxvyyfhfwgg1", 1));
+    Assert.assertEquals("xytxvyyeh5wgg1", azamSectionPredecessor("xytxvyyfh5wgg1", 0));
+    Assert.assertEquals("hggggggg0h5", azamSectionSuccessor("zzzzzzzfh5", 0));
+    // Changed characters are canonical, the rest are kept as is
+    Assert.assertEquals("XYTXVYYFH5WGG2", azamSuccessor("XYTXVYYFH5WGG1"));
+    Assert.assertEquals("XYTXVYYFH5WGh0", azamSuccessor("XYTXVYYFH5WGGF"));
+    Assert.assertEquals("xytxvyyfh5wgg2", azamSuccessor("xytxvyyfh5wggL"));
+    Assert.assertEquals("XYTXVYYFH5WGG1", azamSectionSuccessor("XYTXVYYFH4WGG1", 1));
+    // Sections after the requested one are not validated
+    Assert.assertEquals("xytxvyyf_", azamSectionSuccessor("xytxvyye_", 0));
+
+    Random random = new Random(23);
+    for (int n = 0; n < 2000; n++) {
+      // Some longer than the scratch buffers kept per thread
+      byte[] bytes = new byte[random.nextInt(n % 50 == 0 ? 3000 : 20) + 1];
+      random.nextBytes(bytes);
+      if (random.nextBoolean())
+        Arrays.fill(bytes, random.nextInt(bytes.length), bytes.length, (byte) -1);
+      else if (random.nextBoolean())
+        Arrays.fill(bytes, random.nextInt(bytes.length), bytes.length, (byte) 0);
+      BigInteger value = new BigInteger(1, bytes);
+      String head = azamEncodeInts(random.nextInt());
+      String encoded = head + azamEncodeBytes(bytes);
+      String next = head + azamEncodeBytes(value.add(BigInteger.ONE).toByteArray());
+      Assert.assertEquals("azamSuccessor failed for " + encoded, next, azamSuccessor(encoded));
+      Assert.assertEquals("azamPredecessor failed for " + next, encoded, azamPredecessor(next));
+      Assert.assertEquals(next + "h5", azamSectionSuccessor(encoded + "h5", 1));
+      if (value.signum() > 0) {
+        String previous = head + azamEncodeBytes(value.subtract(BigInteger.ONE).toByteArray());
+        Assert.assertEquals("azamPredecessor failed for " + encoded, previous,
+            azamPredecessor(encoded));
+      }
+    }
+
+    Assert.assertThrows(IndexOutOfBoundsException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws ParseException {
+        azamSuccessor("");
+      }
+    });
+    Assert.assertThrows(IndexOutOfBoundsException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws ParseException {
+        azamSectionPredecessor("xytxvyyfh5wgg1", 3);
+      }
+    });
+    for (final String value : new String[] {"xytxvyyf_", "h", "gf", "XYTXVYYF"}) {
+      Assert.assertThrows(ParseException.class, new ThrowingRunnable() {
+        @Override
+        public void run() throws ParseException {
+          azamSuccessor(value, DecodeMode.STRICT);
+        }
+      });
+    }
+  }
+
+  @Test
+  public void testAzamCompare() {
+    Random random = new Random(42);
+    List<long[]> ids = new ArrayList<long[]>();
+    for (int i = 0; i < 200; i++) {
+      // Vary lengths, and repeat values to get ties in the first section
+      ids.add(l(random.nextLong() >>> random.nextInt(64) >>> (i % 3 * 32),
+          random.nextLong() >>> random.nextInt(64)));
+    }
+    ids.add(l(0));
+    ids.add(l());
+    ids.add(l(0, 0));
+    for (long[] a : ids) {
+      for (long[] b : ids) {
+        int expected = Integer.signum(compareUnsigned(a, b));
+        String x = azamEncodeLongs(a);
+        String y = azamEncodeLongs(b);
+        Assert.assertEquals(x + " vs " + y, expected, Integer.signum(azamCompare(x, y)));
+        Assert.assertEquals(x + " vs " + y, expected,
+            Integer.signum(azamBytesComparator().compare(x.getBytes(StandardCharsets.US_ASCII),
+                y.getBytes(StandardCharsets.US_ASCII))));
+        Assert.assertEquals(x + " vs " + y, expected, Integer.signum(azamCompareToLongs(x, b)));
+      }
+    }
+
+    // Uppercase and aliases compare as the symbols they stand for
+    Assert.assertEquals(0, azamCompare("XYTXVYYFH5WGG1", "xytxvyyfh5wgg1"));
+    Assert.assertEquals(0, azamCompare("hGo", "hg0"));
+    Assert.assertTrue(azamCompare("hgl", "hg0") > 0);
+    Assert.assertTrue(azamComparator(DecodeMode.STRICT).compare("k0", "hg0") < 0);
+    Assert.assertEquals(0, azamCompareToInts("xytxvyyfh5wgg1", -559038737, 21, 49153));
+    Assert.assertTrue(azamCompareToInts("xytxvyyfh5wgg1", -559038737, 21) > 0);
+    Assert.assertEquals(0, azamCompareToLongs("hGo", DecodeMode.LENIENT, 0x100L));
+    Assert.assertEquals(0, azamCompareToInts("XYTXVYYF", DecodeMode.LENIENT, 0xdeadbeef));
+    Assert.assertTrue(azamCompareToInts("h0", DecodeMode.STRICT, 0x11) < 0);
+
+    for (final String value : new String[] {"h", "_0", "gf"}) {
+      Assert.assertThrows(IllegalArgumentException.class, new ThrowingRunnable() {
+        @Override
+        public void run() {
+          azamCompare("0", value);
+        }
+      });
+    }
+    Assert.assertThrows(IllegalArgumentException.class, new ThrowingRunnable() {
+      @Override
+      public void run() {
+        azamCompare("O", "o", DecodeMode.STRICT);
+      }
+    });
+    Assert.assertThrows(IllegalArgumentException.class, new ThrowingRunnable() {
+      @Override
+      public void run() {
+        azamCompareToLongs("hGo", DecodeMode.STRICT, 0x100L);
+      }
+    });
+  }
+
+  static int compareUnsigned(long[] a, long[] b) {
+    for (int i = 0; i < Math.min(a.length, b.length); i++) {
+      int cmp = Long.compareUnsigned(a[i], b[i]);
+      if (cmp != 0)
+        return cmp;
+    }
+    return a.length - b.length;
+  }
+
+  @Test
+  public void testAzamEncodeBuffers() {
+    for (Sample sample : MULTI_SAMPLES) {
+      for (ByteBuffer dst : new ByteBuffer[] {ByteBuffer.allocate(64),
+          ByteBuffer.allocateDirect(64)}) {
+        for (byte[] bytes : sample.bytes) {
+          ByteBuffer src = ByteBuffer.allocateDirect(bytes.length);
+          flip(src.put(bytes));
+          azamEncodeBytes(src, dst);
+          Assert.assertFalse(src.hasRemaining());
+        }
+        flip(dst);
+        Assert.assertEquals("azamEncodeBytes failed for " + sample.encoded, sample.encoded,
+            StandardCharsets.US_ASCII.decode(dst).toString());
+      }
+
+      CharBuffer chars = CharBuffer.allocate(64);
+      for (byte[] bytes : sample.bytes) {
+        azamEncodeBytes(ByteBuffer.wrap(bytes), chars);
+      }
+      flip(chars);
+      Assert.assertEquals("azamEncodeBytes failed for " + sample.encoded, sample.encoded,
+          chars.toString());
+
+      ByteBuffer dst = ByteBuffer.allocateDirect(64);
+      for (long value : sample.longs) {
+        azamEncodeLong(value, dst);
+      }
+      flip(dst);
+      Assert.assertEquals("azamEncodeLong failed for " + sample.encoded, sample.encoded,
+          StandardCharsets.US_ASCII.decode(dst).toString());
+    }
+
+    ByteBuffer src = ByteBuffer.wrap(b(0xde, 0xad));
+    ByteBuffer dst = ByteBuffer.allocate(3);
+    try {
+      azamEncodeBytes(src, dst);
+      Assert.fail("azamEncodeBytes expects BufferOverflowException");
+    } catch (BufferOverflowException e) {
+      Assert.assertEquals(0, src.position());
+      Assert.assertEquals(0, dst.position());
+    }
+  }
+
+  @Test
+  public void testAzamDecodeBuffers() throws ParseException {
+    for (Sample sample : MULTI_SAMPLES) {
+      ByteBuffer src = ByteBuffer.allocateDirect(sample.encoded.length());
+      flip(src.put(sample.encoded.getBytes(StandardCharsets.US_ASCII)));
+      CharBuffer chars = CharBuffer.wrap(sample.encoded);
+      for (byte[] bytes : sample.bytes) {
+        ByteBuffer dst = ByteBuffer.allocateDirect(bytes.length);
+        Assert.assertTrue(azamDecodeSection(src, dst));
+        Assert.assertEquals("azamDecodeSection failed for " + sample.encoded,
+            ByteBuffer.wrap(bytes), flip(dst));
+        dst = ByteBuffer.allocate(bytes.length);
+        Assert.assertTrue(azamDecodeSection(chars, dst, DecodeMode.STRICT));
+        Assert.assertEquals("azamDecodeSection failed for " + sample.encoded,
+            ByteBuffer.wrap(bytes), flip(dst));
+      }
+      Assert.assertFalse(azamDecodeSection(src, ByteBuffer.allocate(0)));
+      Assert.assertFalse(azamDecodeSection(chars, ByteBuffer.allocate(0)));
+    }
+
+    // Section split across two buffer fills
+    ByteBuffer src = ByteBuffer.allocate(8);
+    ByteBuffer dst = ByteBuffer.allocate(8);
+    flip(src.put("xytx".getBytes(StandardCharsets.US_ASCII)));
+    Assert.assertFalse(azamDecodeSection(src, dst));
+    Assert.assertEquals(0, src.position());
+    Assert.assertEquals(0, dst.position());
+    flip(src.compact().put("vyyf".getBytes(StandardCharsets.US_ASCII)));
+    Assert.assertTrue(azamDecodeSection(src, dst));
+    Assert.assertEquals(ByteBuffer.wrap(b(0xde, 0xad, 0xbe, 0xef)), flip(dst));
+  }
+
+  @Test
+  public void testAzamEncodeStreams() throws IOException {
+    for (Sample sample : MULTI_SAMPLES) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      InputStream[] inputs = new InputStream[sample.bytes.length];
+      for (int i = 0; i < inputs.length; i++) {
+        inputs[i] = new ByteArrayInputStream(sample.bytes[i]);
+      }
+      azamEncodeStreams(output, inputs);
+      Assert.assertEquals("azamEncodeStreams failed for " + sample.encoded, sample.encoded,
+          new String(output.toByteArray(), StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testAzamEncoderOutputStream() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    StringBuilder expected = new StringBuilder();
+    // Small buffer to exercise flushing in the middle of sections
+    try (AzamEncoderOutputStream encoder = new AzamEncoderOutputStream(output, 16)) {
+      for (Sample sample : MULTI_SAMPLES) {
+        for (byte[] bytes : sample.bytes) {
+          // Split each section into two writes
+          encoder.write(bytes, 0, bytes.length / 2);
+          for (int i = bytes.length / 2; i < bytes.length; i++) {
+            encoder.write(bytes[i]);
+          }
+          encoder.endSection();
+        }
+        encoder.writeLong(sample.longs[0]);
+        expected.append(sample.encoded).append(sample.encoded, 0,
+            azamEncodeLongs(sample.longs[0]).length());
+      }
+      encoder.write(b(0x00, 0x00));
+    }
+    expected.append('0');
+    Assert.assertEquals(expected.toString(),
+        new String(output.toByteArray(), StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testAzamDecoderInputStream() throws IOException, ParseException {
+    StringBuilder encoded = new StringBuilder();
+    List<byte[]> expected = new ArrayList<byte[]>();
+    for (Sample sample : MULTI_SAMPLES) {
+      encoded.append(sample.encoded);
+      expected.addAll(Arrays.asList(sample.bytes));
+    }
+    // Small buffer to exercise compaction and growing
+    try (AzamDecoderInputStream decoder = new AzamDecoderInputStream(
+        new ByteArrayInputStream(encoded.toString().getBytes(StandardCharsets.US_ASCII)),
+        DecodeMode.STRICT, 3)) {
+      Assert.assertEquals(-1, decoder.read());
+      for (byte[] bytes : expected) {
+        Assert.assertTrue(decoder.nextSection());
+        Assert.assertEquals(bytes.length, decoder.available());
+        byte[] actual = new byte[bytes.length];
+        int n = decoder.read(actual, 0, 1);
+        n += decoder.read(actual, n, actual.length - n);
+        Assert.assertEquals(bytes.length, n);
+        Assert.assertArrayEquals(bytes, actual);
+        Assert.assertEquals(-1, decoder.read());
+      }
+      Assert.assertFalse(decoder.nextSection());
+    }
+
+    final AzamDecoderInputStream decoder = new AzamDecoderInputStream(
+        new ByteArrayInputStream("xytxvyyfh5wgg".getBytes(StandardCharsets.US_ASCII)));
+    Assert.assertTrue(decoder.nextSection());
+    Assert.assertTrue(decoder.nextSection());
+    Assert.assertThrows(ParseException.class, new ThrowingRunnable() {
+      @Override
+      public void run() throws IOException, ParseException {
+        decoder.nextSection();
+      }
+    });
+  }
+
   @Test
   public void testAzamDecodeIntsParseException() {
     String[] invalids = new String[] {"h", "hh", "hhh", "_0", "gf", "hggggggg0"};
@@ -0,0 +1,107 @@
+package io.azam.azamcodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamIdFile}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamIdFileTest {
+  Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    this.path = Files.createTempFile("azamcodec", ".txt");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(this.path);
+  }
+
+  static long[][] ids() {
+    List<long[]> ids = new ArrayList<long[]>();
+    for (AzamCodecTest.Sample sample : AzamCodecTest.MULTI_SAMPLES) {
+      if (sample.largestBytesLength() <= Long.BYTES)
+        ids.add(sample.longs);
+    }
+    return ids.toArray(new long[ids.size()][]);
+  }
+
+  @Test
+  public void testWriteAndMap() throws IOException {
+    long[][] ids = ids();
+    // Small chunks to exercise splitting across chunks
+    AzamIdFile.write(this.path, ids, 64);
+
+    StringBuilder expected = new StringBuilder();
+    for (long[] id : ids) {
+      expected.append(AzamCodec.azamEncodeLongs(id)).append('\n');
+    }
+    Assert.assertEquals(expected.toString(),
+        new String(Files.readAllBytes(this.path), StandardCharsets.US_ASCII));
+
+    AzamIdFile file = AzamIdFile.map(this.path, DecodeMode.STRICT, 64);
+    Assert.assertEquals(expected.length(), file.size());
+    List<long[]> actual =
+        StreamSupport.stream(file.spliterator(), true).collect(Collectors.<long[]>toList());
+    Assert.assertEquals(ids.length, actual.size());
+    for (int i = 0; i < ids.length; i++) {
+      Assert.assertArrayEquals(ids[i], actual.get(i));
+    }
+
+    // Single chunk
+    actual = StreamSupport.stream(AzamIdFile.map(this.path).spliterator(), true)
+        .collect(Collectors.<long[]>toList());
+    Assert.assertEquals(ids.length, actual.size());
+    for (int i = 0; i < ids.length; i++) {
+      Assert.assertArrayEquals(ids[i], actual.get(i));
+    }
+  }
+
+  @Test
+  public void testSplitOnLineBoundaries() throws IOException {
+    Files.write(this.path, "xytxvyyfh5wgg1\r\n1\n\nzf".getBytes(StandardCharsets.US_ASCII));
+    Spliterator<long[]> spliterator = AzamIdFile.map(this.path).spliterator();
+    Spliterator<long[]> prefix = spliterator.trySplit();
+    Assert.assertNotNull(prefix);
+
+    List<long[]> actual = StreamSupport.stream(prefix, false).collect(Collectors.<long[]>toList());
+    actual.addAll(StreamSupport.stream(spliterator, false).collect(Collectors.<long[]>toList()));
+    Assert.assertEquals(4, actual.size());
+    Assert.assertArrayEquals(new long[] {0xdeadbeefL, 0x15L, 0xc001L}, actual.get(0));
+    Assert.assertArrayEquals(new long[] {0x01L}, actual.get(1));
+    Assert.assertArrayEquals(new long[] {}, actual.get(2));
+    Assert.assertArrayEquals(new long[] {0xffL}, actual.get(3));
+  }
+
+  @Test
+  public void testInvalid() throws IOException {
+    Files.write(this.path, "0\nxyt\n".getBytes(StandardCharsets.US_ASCII));
+    try {
+      StreamSupport.stream(AzamIdFile.map(this.path).spliterator(), false)
+          .collect(Collectors.<long[]>toList());
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      Assert.assertTrue(e.getCause() instanceof ParseException);
+    }
+  }
+}
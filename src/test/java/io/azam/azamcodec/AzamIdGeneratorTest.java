@@ -0,0 +1,133 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamIdGenerator}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamIdGeneratorTest {
+  static class ManualClock implements AzamIdGenerator.Clock {
+    long millis;
+
+    ManualClock(long millis) {
+      this.millis = millis;
+    }
+
+    @Override
+    public long millis() {
+      return this.millis;
+    }
+  }
+
+  static void assertAscending(String prev, String next) {
+    Assert.assertTrue(prev + " < " + next, prev.compareTo(next) < 0);
+    Assert.assertTrue(prev + " < " + next, AzamCodec.azamCompare(prev, next) < 0);
+  }
+
+  @Test
+  public void testNext() throws ParseException {
+    ManualClock clock = new ManualClock(0x18b2f3c4d5eL);
+    AzamIdGenerator generator = new AzamIdGenerator(7, clock);
+    String first = generator.next();
+    Assert.assertEquals("hrvjzkwmxne7hggg0", first);
+    Assert.assertArrayEquals(new long[] {0x18b2f3c4d5eL, 7L, 0L}, AzamIdGenerator.decode(first));
+
+    // Same millisecond
+    String second = generator.next();
+    assertAscending(first, second);
+    Assert.assertArrayEquals(new long[] {0x18b2f3c4d5eL, 7L, 1L}, AzamIdGenerator.decode(second));
+
+    // Clock regression keeps the last timestamp
+    clock.millis -= 1000L;
+    String third = generator.next();
+    assertAscending(second, third);
+    Assert.assertArrayEquals(new long[] {0x18b2f3c4d5eL, 7L, 2L}, AzamIdGenerator.decode(third));
+
+    // Sequence overflow borrows the next millisecond
+    clock.millis += 1000L;
+    String prev = third;
+    for (int i = 3; i < 0x10001; i++) {
+      String next = generator.next();
+      assertAscending(prev, next);
+      prev = next;
+    }
+    Assert.assertArrayEquals(new long[] {0x18b2f3c4d5fL, 7L, 0L}, AzamIdGenerator.decode(prev));
+    // Clock catches up
+    clock.millis += 2L;
+    String caught = generator.next();
+    assertAscending(prev, caught);
+    Assert.assertArrayEquals(new long[] {0x18b2f3c4d60L, 7L, 0L}, AzamIdGenerator.decode(caught));
+
+    // Caller buffers, with and without room for padded writes
+    for (int size : new int[] {18, 40}) {
+      byte[] dst = new byte[size];
+      int end = generator.next(dst, 1);
+      Assert.assertEquals(18, end);
+      Assert.assertArrayEquals(new long[] {0x18b2f3c4d60L, 7L, size == 18 ? 1L : 2L},
+          AzamIdGenerator.decode(new String(dst, 1, end - 1, StandardCharsets.US_ASCII)));
+    }
+  }
+
+  @Test
+  public void testConcurrent() throws InterruptedException {
+    final AzamIdGenerator generator = new AzamIdGenerator(1);
+    final int threads = 4;
+    final int count = 20000;
+    final List<List<String>> ids = new ArrayList<List<String>>();
+    List<Thread> workers = new ArrayList<Thread>();
+    for (int t = 0; t < threads; t++) {
+      final List<String> list = new ArrayList<String>(count);
+      ids.add(list);
+      workers.add(new Thread(new Runnable() {
+        @Override
+        public void run() {
+          for (int i = 0; i < count; i++)
+            list.add(generator.next());
+        }
+      }));
+    }
+    for (Thread worker : workers)
+      worker.start();
+    for (Thread worker : workers)
+      worker.join();
+    Set<String> all = new HashSet<String>();
+    for (List<String> list : ids) {
+      // Each thread sees increasing IDs
+      List<String> sorted = new ArrayList<String>(list);
+      Collections.sort(sorted);
+      Assert.assertEquals(list, sorted);
+      all.addAll(list);
+    }
+    Assert.assertEquals(threads * count, all.size());
+  }
+
+  @Test
+  public void testInvalid() {
+    for (String value : new String[] {"", "10", "1210", "h0", "1hggggg0f"}) {
+      try {
+        AzamIdGenerator.decode(value);
+        Assert.fail("Expects ParseException for " + value);
+      } catch (ParseException e) {
+        // Expected
+      }
+    }
+    try {
+      new AzamIdGenerator(-1);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.azam.azamcodec;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamKernel}, including the Java 17 versions of the
+ * multi-release JAR when they are built.
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamKernelTest {
+  static void assertKernel(Class<?> kernel) throws Exception {
+    Method encodeHigher = kernel.getDeclaredMethod("encodeHigher", byte[].class, int.class,
+        int.class, byte[].class, int.class);
+    encodeHigher.setAccessible(true);
+    Random random = new Random(42);
+    for (int len = 0; len < 100; len++) {
+      byte[] src = new byte[len + 2];
+      random.nextBytes(src);
+      byte[] expected = new byte[len * 2 + 3];
+      for (int i = 0; i < len; i++) {
+        expected[i * 2 + 1] = (byte) AzamCodec.HIGHER_ALPHABETS[(src[i + 1] & 0xff) >> 4];
+        expected[i * 2 + 2] = (byte) AzamCodec.HIGHER_ALPHABETS[src[i + 1] & 0x0f];
+      }
+      byte[] dst = new byte[len * 2 + 3];
+      Assert.assertEquals(len * 2 + 1, encodeHigher.invoke(null, src, 1, len, dst, 1));
+      Assert.assertArrayEquals(kernel.getName() + " failed for " + Arrays.toString(src), expected,
+          dst);
+    }
+  }
+
+  static void assertPutLong(Class<?> kernel) throws Exception {
+    Method putLong = kernel.getDeclaredMethod("putLong", byte[].class, int.class, long.class);
+    putLong.setAccessible(true);
+    byte[] dst = new byte[10];
+    putLong.invoke(null, dst, 1, 0x0123456789abcdefL);
+    Assert.assertArrayEquals(new byte[] {0, 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab,
+        (byte) 0xcd, (byte) 0xef, 0}, dst);
+  }
+
+  static String name(Class<?> kernel) throws Exception {
+    Field name = kernel.getDeclaredField("NAME");
+    name.setAccessible(true);
+    return (String) name.get(null);
+  }
+
+  @Test
+  public void testKernel() throws Exception {
+    assertKernel(AzamKernel.class);
+    assertPutLong(AzamKernel.class);
+  }
+
+  @Test
+  public void testJava17Kernel() throws Exception {
+    File classes =
+        new File(AzamKernel.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    File versions = new File(classes, "META-INF/versions/17");
+    Assume.assumeTrue("Java 17 classes are not built", versions.isDirectory());
+    String property = System.getProperty("azamcodec.vector");
+    try {
+      for (String vector : new String[] {"true", "false"}) {
+        System.setProperty("azamcodec.vector", vector);
+        // Versioned classes first, as a multi-release JAR would resolve them
+        URLClassLoader loader =
+            new URLClassLoader(new URL[] {versions.toURI().toURL(), classes.toURI().toURL()},
+                AzamKernelTest.class.getClassLoader().getParent());
+        Class<?> kernel = Class.forName(AzamKernel.class.getName(), true, loader);
+        Assert.assertNotEquals("scalar", name(kernel));
+        if (vector.equals("false"))
+          Assert.assertEquals("swar", name(kernel));
+        assertKernel(kernel);
+        assertPutLong(kernel);
+      }
+    } finally {
+      if (property == null)
+        System.clearProperty("azamcodec.vector");
+      else
+        System.setProperty("azamcodec.vector", property);
+    }
+  }
+}
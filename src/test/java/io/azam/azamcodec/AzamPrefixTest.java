@@ -0,0 +1,97 @@
+package io.azam.azamcodec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamPrefix}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamPrefixTest {
+  @Test
+  public void testEncode() throws ParseException {
+    AzamPrefix prefix = AzamPrefix.ofInts(0xdeadbeef);
+    Assert.assertEquals("xytxvyyf", prefix.toString());
+    Assert.assertEquals(8, prefix.length());
+    Assert.assertEquals(prefix, AzamPrefix.ofLongs(0xdeadbeefL));
+    Assert.assertEquals(prefix, AzamPrefix.of("xytxvyyf"));
+    Assert.assertEquals(prefix.hashCode(), AzamPrefix.of("xytxvyyf").hashCode());
+    Assert.assertEquals(prefix,
+        AzamPrefix.ofBytes(new byte[] {(byte) 0xde, (byte) 0xad, (byte) 0xbe, (byte) 0xef}));
+
+    Assert.assertEquals("xytxvyyfh5wgg1", prefix.encodeInts(21, 49153));
+    Assert.assertEquals("xytxvyyfh5wgg1", prefix.encodeLongs(21L, 49153L));
+    Assert.assertEquals("xytxvyyfh5wgg1",
+        prefix.encodeBytes(new byte[] {0x15}, new byte[] {(byte) 0xc0, 0x01}));
+    Assert.assertEquals("xytxvyyf", prefix.encodeInts());
+    Assert.assertEquals("/records/xytxvyyfh5wgg1",
+        prefix.encodeLongsTo(new StringBuilder("/records/"), 21L, 49153L).toString());
+    Assert.assertEquals("h5wgg1", AzamPrefix.ofInts().encodeInts(21, 49153));
+
+    byte[] dst = new byte[prefix.length() + 2 * AzamCodec.MAX_LONG_ENCODED_LENGTH + 1];
+    int end = prefix.encodeLongs(new long[] {21L, 49153L}, dst, 1);
+    Assert.assertEquals(15, end);
+    Assert.assertEquals("xytxvyyfh5wgg1", new String(dst, 1, end - 1, StandardCharsets.US_ASCII));
+    Assert.assertEquals(0, dst[end]);
+    Assert.assertEquals(14, prefix.encodeInts(new int[] {21, 49153}, dst, 0));
+
+    Assert.assertTrue(prefix.isPrefixOf("xytxvyyfh5wgg1"));
+    Assert.assertTrue(prefix.isPrefixOf("xytxvyyf"));
+    Assert.assertFalse(prefix.isPrefixOf("xytxvyy"));
+    Assert.assertFalse(prefix.isPrefixOf("h5wgg1xytxvyyf"));
+  }
+
+  @Test
+  public void testRange() throws ParseException {
+    Assert.assertEquals("xytxvyyf", AzamPrefix.ofInts(0xdeadbeef).rangeStart());
+    Assert.assertEquals("xytxvyyg", AzamPrefix.ofInts(0xdeadbeef).rangeEnd());
+    Assert.assertEquals("h5a", AzamPrefix.ofInts(21, 9).rangeEnd());
+    Assert.assertEquals("2", AzamPrefix.ofLongs(1L).rangeEnd());
+    Assert.assertArrayEquals("h6".getBytes(StandardCharsets.US_ASCII),
+        AzamPrefix.ofBytes(new byte[] {0x15}).rangeEndBytes());
+    Assert.assertEquals("", AzamPrefix.ofInts().rangeStart());
+    Assert.assertNull(AzamPrefix.ofInts().rangeEnd());
+
+    // IDs in range are exactly the IDs with the leading sections
+    Random random = new Random(42);
+    for (int n = 0; n < 10000; n++) {
+      long[] id = new long[] {random.nextInt(20), random.nextInt(20), random.nextLong()};
+      for (int k = 0; k < 3; k++)
+        id[k] >>>= random.nextInt(64);
+      String encoded = AzamCodec.azamEncodeLongs(id);
+      long[] leading = new long[] {random.nextInt(20) >>> random.nextInt(8),
+          random.nextInt(20) >>> random.nextInt(8)};
+      int count = random.nextInt(3);
+      AzamPrefix prefix = AzamPrefix.ofLongs(Arrays.copyOf(leading, count));
+      boolean expected = Arrays.equals(Arrays.copyOf(id, count), Arrays.copyOf(leading, count));
+      boolean inRange = encoded.compareTo(prefix.rangeStart()) >= 0
+          && (prefix.rangeEnd() == null || encoded.compareTo(prefix.rangeEnd()) < 0);
+      Assert.assertEquals(encoded + " in " + prefix, expected, inRange);
+    }
+  }
+
+  @Test
+  public void testInvalid() {
+    for (String value : new String[] {"h", "0_", "XYTXVYYF", "g0"}) {
+      try {
+        AzamPrefix.of(value);
+        Assert.fail("Expects ParseException for " + value);
+      } catch (ParseException e) {
+        // Expected
+      }
+    }
+    try {
+      AzamPrefix.ofInts(1).encodeLongs((long[]) null);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.azam.azamcodec;
+
+import java.text.ParseException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+import io.azam.azamcodec.AzamSchema.Type;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamSchema}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamSchemaTest {
+  @Test
+  public void testEncodeDecode() throws ParseException {
+    AzamSchema schema = AzamSchema.of(Type.INT, Type.LONG, Type.BYTES);
+    Assert.assertEquals(3, schema.size());
+    Assert.assertEquals(Type.LONG, schema.type(1));
+    Assert.assertEquals(24, schema.maxEncodedLength());
+
+    AzamSchema.IntSection i = schema.intSection(0);
+    AzamSchema.LongSection l = schema.longSection(1);
+    AzamSchema.BytesSection b = schema.bytesSection(2);
+    Assert.assertEquals(2, b.index());
+    Assert.assertEquals(Type.BYTES, b.type());
+    Assert.assertSame(schema, b.schema());
+    Assert.assertSame(i, schema.intSection(0));
+
+    AzamSchema.Record record = schema.newRecord();
+    record.setInt(i, 0xdeadbeef).setLong(l, 0x15L).setBytes(b, new byte[] {(byte) 0xc0, 0x01});
+    Assert.assertEquals(28, record.maxEncodedLength());
+    String encoded = schema.encode(record);
+    Assert.assertEquals("xytxvyyfh5wgg1", encoded);
+    Assert.assertEquals(encoded, AzamCodec.azamEncodeBytes(AzamCodec.azamDecodeBytes(encoded)));
+
+    byte[] dst = new byte[record.maxEncodedLength() + 1];
+    Assert.assertEquals(15, schema.encode(record, dst, 1));
+
+    AzamSchema.Record decoded = schema.newRecord();
+    schema.decode(encoded.toUpperCase(), decoded);
+    Assert.assertEquals(0xdeadbeef, decoded.getInt(i));
+    Assert.assertEquals(0x15L, decoded.getLong(l));
+    Assert.assertEquals(2, decoded.bytesLength(b));
+    Assert.assertArrayEquals(new byte[] {(byte) 0xc0, 0x01}, decoded.getBytes(b));
+
+    // Reuse record with odd nybble count and a longer byte array
+    schema.decode("0zzzzzzzzzzzzzzzfhggggggggggggggggg0", decoded);
+    Assert.assertEquals(0, decoded.getInt(i));
+    Assert.assertEquals(-1L, decoded.getLong(l));
+    Assert.assertEquals(10, decoded.bytesLength(b));
+    byte[] bytes = new byte[11];
+    Assert.assertEquals(10, decoded.copyBytes(b, bytes, 1));
+    Assert.assertArrayEquals(new byte[] {0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0}, bytes);
+  }
+
+  @Test
+  public void testInvalid() {
+    AzamSchema schema = AzamSchema.of(Type.INT, Type.LONG);
+    AzamSchema.Record record = schema.newRecord();
+    for (String value : new String[] {"", "0", "000", "x0", "0g0", "zzzzzzzzf0", "0_", "0z"}) {
+      try {
+        schema.decode(value, record);
+        Assert.fail("Expects ParseException for " + value);
+      } catch (ParseException e) {
+        // Expected
+      }
+    }
+    try {
+      schema.decode("0X0", record, DecodeMode.STRICT);
+      Assert.fail("Expects ParseException");
+    } catch (ParseException e) {
+      Assert.assertEquals(1, e.getErrorOffset());
+    }
+    try {
+      schema.decode("0zzzzzzzzzzzzzzzzf", record);
+      Assert.fail("Expects ParseException");
+    } catch (ParseException e) {
+      Assert.assertEquals(AzamCodec.DecodeError.TOO_LONG.message(), e.getMessage());
+      Assert.assertEquals(17, e.getErrorOffset());
+    }
+    for (String value : new String[] {"", "h5"}) {
+      try {
+        schema.decode(value, record);
+        Assert.fail("Expects ParseException for " + value);
+      } catch (ParseException e) {
+        Assert.assertEquals("Encoded value has fewer sections than schema", e.getMessage());
+        Assert.assertEquals(value.length(), e.getErrorOffset());
+      }
+    }
+    try {
+      schema.decode("h5h", record);
+      Assert.fail("Expects ParseException");
+    } catch (ParseException e) {
+      Assert.assertEquals(AzamCodec.DecodeError.UNTERMINATED.message(), e.getMessage());
+    }
+    // Handles of another schema of the same shape are rejected
+    AzamSchema.IntSection other = AzamSchema.of(Type.INT, Type.LONG).intSection(0);
+    try {
+      record.setInt(other, 1);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      record.getInt(other);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      schema.longSection(0);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      schema.intSection(2);
+      Assert.fail("Expects IndexOutOfBoundsException");
+    } catch (IndexOutOfBoundsException e) {
+      // Expected
+    }
+    try {
+      schema.encode(AzamSchema.of(Type.INT, Type.LONG).newRecord());
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      AzamSchema bytes = AzamSchema.of(Type.BYTES);
+      bytes.encode(bytes.newRecord());
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+}
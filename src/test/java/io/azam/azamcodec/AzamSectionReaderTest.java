@@ -0,0 +1,270 @@
+package io.azam.azamcodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.azam.azamcodec.AzamCodec.DecodeMode;
+import io.azam.azamcodec.AzamSectionReader.Event;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamSectionReader}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamSectionReaderTest {
+  static final String INPUT = "xytxvyyfh5wgg1\r\n0\n\nzzzzzzzzzzzzzzzf";
+
+  /// Readers of the same input from all sources, the stream ones with a tiny buffer to test refills
+  static List<AzamSectionReader> readers(String input, DecodeMode mode) {
+    byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+    byte[] padded = new byte[bytes.length + 4];
+    System.arraycopy(bytes, 0, padded, 2, bytes.length);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    List<AzamSectionReader> readers = new ArrayList<AzamSectionReader>();
+    readers.add(new AzamSectionReader(input, mode));
+    readers.add(new AzamSectionReader(padded, 2, bytes.length, mode));
+    readers.add(new AzamSectionReader(ByteBuffer.wrap(bytes), mode));
+    readers.add(new AzamSectionReader(direct, mode));
+    readers.add(new AzamSectionReader(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), mode));
+    readers.add(new AzamSectionReader(new ByteArrayInputStream(bytes), mode, 1));
+    return readers;
+  }
+
+  /// Reference by decoding each line
+  static List<long[]> decodeLines(String input) throws ParseException {
+    List<long[]> ids = new ArrayList<long[]>();
+    if (input.isEmpty())
+      return ids;
+    String[] lines = input.split("\r?\n", -1);
+    int count = input.endsWith("\n") ? lines.length - 1 : lines.length;
+    for (int i = 0; i < count; i++)
+      ids.add(AzamCodec.azamDecodeLongs(lines[i]));
+    return ids;
+  }
+
+  static List<long[]> readLongs(AzamSectionReader reader) throws IOException, ParseException {
+    List<long[]> ids = new ArrayList<long[]>();
+    List<Long> id = new ArrayList<Long>();
+    for (Event event = reader.next(); event != Event.EOF; event = reader.next()) {
+      if (event == Event.SECTION) {
+        Assert.assertEquals(id.size(), reader.sectionIndex());
+        id.add(reader.longValue());
+      } else {
+        long[] sections = new long[id.size()];
+        for (int i = 0; i < sections.length; i++)
+          sections[i] = id.get(i);
+        ids.add(sections);
+        id.clear();
+      }
+    }
+    Assert.assertEquals(Event.EOF, reader.event());
+    Assert.assertEquals(Event.EOF, reader.next());
+    return ids;
+  }
+
+  static void assertIds(List<long[]> expected, List<long[]> actual) {
+    Assert.assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++)
+      Assert.assertArrayEquals(expected.get(i), actual.get(i));
+  }
+
+  @Test
+  public void testNext() throws IOException, ParseException {
+    for (AzamSectionReader reader : readers(INPUT, DecodeMode.STRICT)) {
+      Assert.assertNull(reader.event());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(0, reader.sectionIndex());
+      Assert.assertEquals(8, reader.encodedLength());
+      Assert.assertEquals(4, reader.byteLength());
+      Assert.assertEquals(0xdeadbeef, reader.intValue());
+      Assert.assertEquals(0xdeadbeefL, reader.longValue());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(0x15, reader.intValue());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(2, reader.sectionIndex());
+      byte[] bytes = new byte[4];
+      Assert.assertEquals(2, reader.copyBytes(bytes, 1));
+      Assert.assertArrayEquals(new byte[] {0, (byte) 0xc0, 0x01, 0}, bytes);
+      Assert.assertEquals(Event.ID_END, reader.next());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(0L, reader.longValue());
+      Assert.assertEquals(Event.ID_END, reader.next());
+      // Empty line is an empty ID
+      Assert.assertEquals(Event.ID_END, reader.next());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(-1L, reader.longValue());
+      try {
+        reader.intValue();
+        Assert.fail("Expects ParseException");
+      } catch (ParseException e) {
+        // Expected
+      }
+      // Last ID without a line feed
+      Assert.assertEquals(Event.ID_END, reader.next());
+      Assert.assertEquals(Event.EOF, reader.next());
+      Assert.assertEquals(Event.EOF, reader.next());
+      try {
+        reader.longValue();
+        Assert.fail("Expects IllegalStateException");
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+      reader.close();
+    }
+  }
+
+  @Test
+  public void testRandom() throws IOException, ParseException {
+    Random random = new Random(24);
+    StringBuilder input = new StringBuilder();
+    for (int n = 0; n < 500; n++) {
+      long[] id = new long[random.nextInt(4)];
+      for (int i = 0; i < id.length; i++)
+        id[i] = random.nextLong() >>> random.nextInt(64);
+      AzamCodec.azamEncodeLongsTo(input, id);
+      input.append(random.nextBoolean() ? "\n" : "\r\n");
+    }
+    List<long[]> expected = decodeLines(input.toString());
+    for (AzamSectionReader reader : readers(input.toString(), DecodeMode.LENIENT))
+      assertIds(expected, readLongs(reader));
+    for (String value : new String[] {"", "\n", "0", "0\n", "h0\n\r\n1", "XYTXVYYFH5WGG1"}) {
+      for (AzamSectionReader reader : readers(value, DecodeMode.LENIENT))
+        assertIds(decodeLines(value), readLongs(reader));
+    }
+  }
+
+  @Test
+  public void testCopyBytes() throws IOException, ParseException {
+    Random random = new Random(24);
+    byte[][] sections = new byte[50][];
+    for (int i = 0; i < sections.length; i++) {
+      sections[i] = new byte[random.nextInt(40) + 1];
+      random.nextBytes(sections[i]);
+      sections[i][0] |= 0x10;
+    }
+    String input = AzamCodec.azamEncodeBytes(sections);
+    for (AzamSectionReader reader : readers(input, DecodeMode.STRICT)) {
+      for (byte[] section : sections) {
+        Assert.assertEquals(Event.SECTION, reader.next());
+        byte[] copied = new byte[reader.byteLength()];
+        Assert.assertEquals(section.length, reader.copyBytes(copied));
+        Assert.assertArrayEquals(section, copied);
+      }
+      Assert.assertEquals(Event.ID_END, reader.next());
+      Assert.assertEquals(Event.EOF, reader.next());
+    }
+  }
+
+  @Test
+  public void testSkipId() throws IOException, ParseException {
+    String input = "xytxvyyfh5wgg1\nh5_\r\nwgg1\n";
+    for (AzamSectionReader reader : readers(input, DecodeMode.STRICT)) {
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(0xdeadbeefL, reader.longValue());
+      Assert.assertEquals(Event.ID_END, reader.skipId());
+      // Skipped characters are not validated
+      Assert.assertEquals(Event.ID_END, reader.skipId());
+      Assert.assertEquals(Event.SECTION, reader.next());
+      Assert.assertEquals(0xc001L, reader.longValue());
+      Assert.assertEquals(Event.ID_END, reader.skipId());
+      Assert.assertEquals(Event.EOF, reader.skipId());
+      Assert.assertEquals(Event.EOF, reader.next());
+    }
+    for (AzamSectionReader reader : readers("h5wgg1", DecodeMode.STRICT)) {
+      Assert.assertEquals(Event.ID_END, reader.skipId());
+      Assert.assertEquals(Event.EOF, reader.next());
+    }
+  }
+
+  @Test
+  public void testInvalid() throws IOException {
+    for (String value : new String[] {"xytxvyyf_", "h", "h5\rh5", "h5\r", "gf", "xytxvyyF",
+        "xytxvyyé"}) {
+      for (AzamSectionReader reader : readers(value, DecodeMode.STRICT)) {
+        try {
+          while (reader.next() != Event.EOF) {
+            // Read until an error
+          }
+          Assert.fail("Expects ParseException for " + value);
+        } catch (ParseException e) {
+          // Expected
+        }
+      }
+    }
+    try {
+      new AzamSectionReader(new ByteArrayInputStream(new byte[0]), DecodeMode.LENIENT, 0);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      new AzamSectionReader((InputStream) null);
+      Assert.fail("Expects IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      new AzamSectionReader(new byte[4], 2, 3, DecodeMode.LENIENT);
+      Assert.fail("Expects IndexOutOfBoundsException");
+    } catch (IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testParseExceptionOffset() throws IOException {
+    for (AzamSectionReader reader : readers("xytxvyyfh5\nwg_1", DecodeMode.STRICT)) {
+      try {
+        while (reader.next() != Event.EOF) {
+          // Read until an error
+        }
+        Assert.fail("Expects ParseException");
+      } catch (ParseException e) {
+        Assert.assertEquals(13, e.getErrorOffset());
+        Assert.assertEquals(AzamCodec.DecodeError.UNKNOWN_CHAR.message(), e.getMessage());
+      }
+    }
+    for (AzamSectionReader reader : readers("xytxvyyfh5\nwgg", DecodeMode.STRICT)) {
+      try {
+        while (reader.next() != Event.EOF) {
+          // Read until an error
+        }
+        Assert.fail("Expects ParseException");
+      } catch (ParseException e) {
+        Assert.assertEquals(14, e.getErrorOffset());
+        Assert.assertEquals(AzamCodec.DecodeError.UNTERMINATED.message(), e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testSourceUnchanged() throws IOException, ParseException {
+    byte[] bytes = INPUT.getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes).flip();
+    AzamSectionReader reader = new AzamSectionReader(buffer);
+    while (reader.next() != Event.EOF) {
+      // Read all
+    }
+    Assert.assertEquals(0, buffer.position());
+    byte[] copy = bytes.clone();
+    reader = new AzamSectionReader(bytes);
+    while (reader.next() != Event.EOF) {
+      // Read all
+    }
+    Assert.assertTrue(Arrays.equals(copy, bytes));
+  }
+}
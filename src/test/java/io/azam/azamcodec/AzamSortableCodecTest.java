@@ -0,0 +1,93 @@
+package io.azam.azamcodec;
+
+import java.text.ParseException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for {@link io.azam.azamcodec.AzamSortableCodec}
+ *
+ * @author azam
+ * @since 0.1.0
+ */
+public class AzamSortableCodecTest {
+  static final int[] INTS = new int[] {Integer.MIN_VALUE, -559038737, -256, -1, 0, 1, 21, 49153,
+      0x10000, Integer.MAX_VALUE};
+  static final long[] LONGS = new long[] {Long.MIN_VALUE, -559038737L << 32, -559038737L, -1L, 0L,
+      1L, 0x100L, 0xdeadbeefL, Long.MAX_VALUE};
+  static final float[] FLOATS =
+      new float[] {Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1.5f, -Float.MIN_VALUE, -0.0f, 0.0f,
+          Float.MIN_VALUE, 1.0f, 1.5f, Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN};
+  static final double[] DOUBLES =
+      new double[] {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+          Double.MIN_VALUE, 1.0, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+
+  static void assertAscending(String[] encoded) {
+    for (int i = 1; i < encoded.length; i++) {
+      Assert.assertTrue(encoded[i - 1] + " < " + encoded[i],
+          encoded[i - 1].compareTo(encoded[i]) < 0);
+    }
+  }
+
+  @Test
+  public void testInts() throws ParseException {
+    String[] encoded = new String[INTS.length];
+    for (int i = 0; i < INTS.length; i++) {
+      encoded[i] = AzamSortableCodec.azamEncodeSortableInts(INTS[i], 7);
+      Assert.assertArrayEquals(new int[] {INTS[i], 7},
+          AzamSortableCodec.azamDecodeSortableInts(encoded[i]));
+    }
+    assertAscending(encoded);
+    Assert.assertEquals("hggggggg0", AzamSortableCodec.azamEncodeSortableInts(Integer.MIN_VALUE));
+    Assert.assertEquals("hzzzzzzzf", AzamSortableCodec.azamEncodeSortableInts(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testInvalid() {
+    for (String value : new String[] {"0", "hggggggg0h", "gggggggg0", "hgggggg00", "hggggggg_",
+        "hgggggggg"}) {
+      try {
+        AzamSortableCodec.azamDecodeSortableInts(value);
+        Assert.fail("Expects ParseException for " + value);
+      } catch (ParseException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void testLongs() throws ParseException {
+    String[] encoded = new String[LONGS.length];
+    for (int i = 0; i < LONGS.length; i++) {
+      encoded[i] = AzamSortableCodec.azamEncodeSortableLongs(LONGS[i], -7L);
+      Assert.assertArrayEquals(new long[] {LONGS[i], -7L},
+          AzamSortableCodec.azamDecodeSortableLongs(encoded[i]));
+    }
+    assertAscending(encoded);
+  }
+
+  @Test
+  public void testFloats() throws ParseException {
+    String[] encoded = new String[FLOATS.length];
+    for (int i = 0; i < FLOATS.length; i++) {
+      encoded[i] = AzamSortableCodec.azamEncodeSortableFloats(FLOATS[i]);
+      float[] decoded = AzamSortableCodec.azamDecodeSortableFloats(encoded[i]);
+      Assert.assertEquals(1, decoded.length);
+      Assert.assertEquals(Float.floatToIntBits(FLOATS[i]), Float.floatToIntBits(decoded[0]));
+    }
+    assertAscending(encoded);
+  }
+
+  @Test
+  public void testDoubles() throws ParseException {
+    String[] encoded = new String[DOUBLES.length];
+    for (int i = 0; i < DOUBLES.length; i++) {
+      encoded[i] = AzamSortableCodec.azamEncodeSortableDoubles(DOUBLES[i]);
+      double[] decoded = AzamSortableCodec.azamDecodeSortableDoubles(encoded[i]);
+      Assert.assertEquals(1, decoded.length);
+      Assert.assertEquals(Double.doubleToLongBits(DOUBLES[i]), Double.doubleToLongBits(decoded[0]));
+    }
+    assertAscending(encoded);
+  }
+}